@@ -0,0 +1,50 @@
+package com.chess.engine.benchmark;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+
+/**
+ * The Fixed Positions Every Benchmark Runs On, So Results Can Be Compared Between Runs
+ */
+public final class BenchmarkPositions {
+
+    public static final String STARTING_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    //A Busy Middlegame With Every Kind Of Move Except En Passant And Promotion
+    public static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    public static final String ROOK_ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    public static final String PROMOTIONS = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+
+    public static final String TACTICAL = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+
+    //White Can Take The f Pawn En Passant
+    public static final String EN_PASSANT = "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3";
+
+    //White Can Promote The a Pawn
+    public static final String PROMOTION = "8/P6k/8/8/8/8/8/K7 w - - 0 1";
+
+    //The Positions Perft Is Timed Over
+    public static final String[] PERFT_POSITIONS = {STARTING_POSITION, KIWIPETE, ROOK_ENDGAME, PROMOTIONS, TACTICAL};
+
+    /**
+     * The Default Constructor For Benchmark Positions Which Shouldn't Be Able To Be Initialised
+     */
+    private BenchmarkPositions(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Creates The Boards For Some Positions
+     * @param fenStrings The FEN Of Each Position
+     * @return The Boards In The Same Order
+     */
+    public static Board[] createBoards(final String... fenStrings){
+        final Board[] boards = new Board[fenStrings.length];
+        for(int i = 0; i < fenStrings.length; i++){
+            boards[i] = FenUtilities.createGameFromFEN(fenStrings[i]);
+        }
+        return boards;
+    }
+}
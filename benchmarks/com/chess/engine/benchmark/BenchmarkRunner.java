@@ -0,0 +1,30 @@
+package com.chess.engine.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs The Benchmarks With The GC Profiler Always On, So Every Result Shows The Bytes Allocated Per Operation
+ *
+ * Takes The Usual JMH Command Line Options, For Example A Benchmark Name Pattern Or -p depth=3
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * The Default Constructor For Benchmark Runner Which Shouldn't Be Able To Be Initialised
+     */
+    private BenchmarkRunner(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.chess.engine.benchmark;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.MoveTransition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times Move.execute For Each Kind Of Move And Player.makeMove, Which Also Checks The Move Is Legal
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveBenchmark {
+
+    @Param({"MajorMove", "AttackMove", "PawnMove", "PawnAttackMove", "PawnJump", "PawnEnPassantMove",
+            "PawnPromotionMove", "KingSideCastleMove", "QueenSideCastleMove"})
+    public String moveType;
+
+    private Board board;
+    private Move move;
+
+    @Setup
+    public void setUp(){
+        final String fen;
+        switch(this.moveType){
+            case "PawnEnPassantMove":
+                fen = BenchmarkPositions.EN_PASSANT;
+                break;
+            case "PawnPromotionMove":
+                fen = BenchmarkPositions.PROMOTION;
+                break;
+            default:
+                fen = BenchmarkPositions.KIWIPETE;
+                break;
+        }
+        this.board = BenchmarkPositions.createBoards(fen)[0];
+
+        for(final Move possibleMove : this.board.currentPlayer().getPossibleMoves()){
+            if(possibleMove.getClass().getSimpleName().equals(this.moveType)){
+                this.move = possibleMove;
+                return;
+            }
+        }
+        throw new RuntimeException("No " + this.moveType + " In " + fen);
+    }
+
+    @Benchmark
+    public Board execute(){
+        return this.move.execute();
+    }
+
+    @Benchmark
+    public MoveTransition makeMove(){
+        return this.board.currentPlayer().makeMove(this.move);
+    }
+}
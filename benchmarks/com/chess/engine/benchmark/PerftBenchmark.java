@@ -0,0 +1,102 @@
+package com.chess.engine.benchmark;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.perft.Perft;
+import com.chess.engine.player.MoveTransition;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times Perft To A Fixed Depth Over The Fixed Position Set
+ *
+ * searchBoardPerft Makes And Unmakes Moves On A SearchBoard Like The Perft Tool
+ * boardPerft Walks The Tree With Player.makeMove, Building A New Board For Every Node Like The Game Does
+ * Scored In Operations Per Second With The nodes Counter Giving Nodes Per Second
+ * Divide The GC Profilers gc.alloc.rate.norm By The Nodes Per Operation, nodes Over The Score, For Bytes Per Node
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PerftBenchmark {
+
+    @Param({"2", "3"})
+    public int depth;
+
+    private Board[] boards;
+
+    /**
+     * Counts The Nodes Visited, Reported By JMH As A Rate Next To The Score
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class NodeCounter {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            this.nodes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp(){
+        this.boards = BenchmarkPositions.createBoards(BenchmarkPositions.PERFT_POSITIONS);
+    }
+
+    @Benchmark
+    public long searchBoardPerft(final NodeCounter counter){
+        long nodes = 0;
+        for(final Board board : this.boards){
+            nodes += Perft.perft(board, this.depth);
+        }
+        counter.nodes += nodes;
+        return nodes;
+    }
+
+    @Benchmark
+    public long boardPerft(final NodeCounter counter){
+        long nodes = 0;
+        for(final Board board : this.boards){
+            nodes += boardPerft(board, this.depth);
+        }
+        counter.nodes += nodes;
+        return nodes;
+    }
+
+    /**
+     * Counts The Leaf Nodes By Making Every Move With Player.makeMove
+     * @param board The Board To Count From
+     * @param depth The Number Of Plies Left
+     * @return The Number Of Leaf Nodes
+     */
+    private static long boardPerft(final Board board, final int depth){
+        if(depth == 0){
+            return 1;
+        }
+        long nodes = 0;
+        for(final Move move : board.currentPlayer().getPossibleMoves()){
+            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+            if(moveTransition.getMoveStatus().isDone()){
+                nodes += boardPerft(moveTransition.getToBoard(), depth - 1);
+            }
+        }
+        return nodes;
+    }
+}
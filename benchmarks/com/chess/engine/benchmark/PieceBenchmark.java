@@ -0,0 +1,59 @@
+package com.chess.engine.benchmark;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times Each Pieces calculatePossibleMoves
+ *
+ * Every Piece Of The Chosen Type On Both Sides Of Kiwipete Calculates Its Moves Once Per Operation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PieceBenchmark {
+
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    public Piece.PieceType pieceType;
+
+    private Board board;
+    private Piece[] pieces;
+
+    @Setup
+    public void setUp(){
+        this.board = BenchmarkPositions.createBoards(BenchmarkPositions.KIWIPETE)[0];
+        final List<Piece> piecesOfType = new ArrayList<>();
+        for(final Piece piece : this.board.getAllPieces()){
+            if(piece.getPieceType() == this.pieceType){
+                piecesOfType.add(piece);
+            }
+        }
+        this.pieces = piecesOfType.toArray(new Piece[0]);
+    }
+
+    @Benchmark
+    public void calculatePossibleMoves(final Blackhole blackhole){
+        for(final Piece piece : this.pieces){
+            blackhole.consume(piece.calculatePossibleMoves(this.board));
+        }
+    }
+}
@@ -2,9 +2,17 @@ package com.chess.engine;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.GameStatus;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.perft.Perft;
 import com.chess.engine.player.MoveTransition;
 import com.chess.engine.player.Player;
+import com.chess.engine.search.AlphaBetaSearch;
+import com.chess.engine.search.SearchLimits;
+import com.chess.engine.search.SearchResult;
+import com.chess.engine.search.StandardBoardEvaluator;
 
 import java.util.*;
 
@@ -12,6 +20,11 @@ public class Application {
 
     private static Scanner input;
 
+    //The Depth In Plies The Engine Searches Each Move To
+    private static final int SEARCH_DEPTH = 4;
+
+    private final AlphaBetaSearch search = new AlphaBetaSearch(new StandardBoardEvaluator());
+
     private Player userPlayer;
     private Player enginePlayer;
     private Player otherEnginePlayer;
@@ -28,77 +41,11 @@ public class Application {
         setUCI();
     }
 
+    /**
+     * Counts The Legal Move Tree From The Start Position To Each Depth Up To 5, Printing The Time And Speed Of Each
+     */
     private void testNumMoves() {
-        Board board = Board.createStandardBoard();
-
-
-
-
-        //1 Depth
-        long startTime = System.currentTimeMillis();
-        System.out.print("Number Of Valid Moves At Depth 1: " + moveGenerationTest(1));
-        long totalTime = System.currentTimeMillis() - startTime;
-        System.out.println(" And Took "+ totalTime + "ms");
-
-        //2 Depth
-        startTime = System.currentTimeMillis();
-        System.out.print("Number Of Valid Moves At Depth 2: " + moveGenerationTest(2));
-        totalTime = System.currentTimeMillis() - startTime;
-        System.out.println(" And Took "+ totalTime + "ms");
-
-        //3 Depth
-        startTime = System.currentTimeMillis();
-        System.out.print("Number Of Valid Moves At Depth 3: " + moveGenerationTest(3));
-        totalTime = System.currentTimeMillis() - startTime;
-        System.out.println(" And Took "+ totalTime + "ms");
-
-        //4 Depth
-        startTime = System.currentTimeMillis();
-        System.out.print("Number Of Valid Moves At Depth 4: " + moveGenerationTest(4));
-        totalTime = System.currentTimeMillis() - startTime;
-        System.out.println(" And Took "+ totalTime + "ms");
-
-        //5 Depth
-        startTime = System.currentTimeMillis();
-        System.out.print("Number Of Valid Moves At Depth 5: " + moveGenerationTest(5));
-        totalTime = System.currentTimeMillis() - startTime;
-        System.out.println(" And Took "+ totalTime + "ms");
-
-        //6 Depth
-        /* startTime = System.currentTimeMillis();
-        System.out.print("Number Of Valid Moves At Depth 6: " + moveGenerationTest(6));
-        totalTime = System.currentTimeMillis() - startTime;
-        System.out.println(" And Took "+ totalTime + "ms"); */
-    }
-
-    Board board = Board.createStandardBoard();
-
-    private int moveGenerationTest(int depth) {
-        if(depth == 0){
-            return 1;
-        }
-
-        int numPositions = 0;
-
-        for(final Move move : board.currentPlayer().getPossibleMoves()){
-
-            if(board.currentPlayer().isInCheckMate()){
-                return 0;
-            }
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if(depth == 5){
-                System.out.println(move + "," + numPositions);
-            }
-
-            if(moveTransition.getMoveStatus().isDone()){
-                board = moveTransition.getToBoard();
-                numPositions += moveGenerationTest(depth - 1);
-            }
-
-
-            board = moveTransition.getFromBoard();
-        }
-        return numPositions;
+        Perft.runPerft(Board.createStandardBoard(), 5);
     }
 
     /**
@@ -127,31 +74,32 @@ public class Application {
 
         while(true){
 
-            //Get The Input From The GUI
-            String guiInput = input.nextLine().toLowerCase();
+            //Get The Input From The GUI, Keeping The Original Case For FEN Strings
+            String rawInput = input.nextLine().trim();
+            String guiInput = rawInput.toLowerCase();
 
 
             if(guiInput.equals("ucinewgame")){
                  board = Board.createStandardBoard();
-            } else if(guiInput.startsWith("position startpos moves")){
-                //Decode The Last Given Move And Make That Move On The Engine Side Board
-                int finalLetter = guiInput.length();
-                String lastMove = guiInput.substring(finalLetter - 4, finalLetter);
-                System.out.println(lastMove);
-
-                int moveInitial = BoardUtils.getCoordinateAtPosition(lastMove.substring(0, 2));
-                int moveDestination = BoardUtils.getCoordinateAtPosition(lastMove.substring(2, 4));
-
-                final Move move = Move.MoveFactory.createMove(board, moveInitial, moveDestination);
-                final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-                board = moveTransition.getToBoard();
+            } else if(guiInput.startsWith("position")){
+                //Set Up The Start Position Or FEN Then Replay Every Given Move On The Engine Side Board
+                board = createPosition(rawInput, board);
             } else if(guiInput.startsWith("go")){
-                Move bestMove = getRandomMove(board.currentPlayer().getPossibleMoves());
+                //Search Within The Clock And Limits Sent By The GUI, Or To The Default Depth If A Bare go Was Sent
+                //Tells The GUI What Each Iteration Found And Then The Move We Want To Make
+                SearchLimits limits = SearchLimits.fromUCI(guiInput);
+                if(!limits.isLimited()){
+                    limits = new SearchLimits.Builder().setDepth(SEARCH_DEPTH).build();
+                }
+                final SearchResult result = search.search(board, limits, iteration -> System.out.println(iteration.toUCIInfo()));
+                Move bestMove = result.getBestMove();
 
-                String outputMove = BoardUtils.getPositionAtCoordinate(bestMove.getCurrentCoordinate()) +
-                        BoardUtils.getPositionAtCoordinate(bestMove.getDestinationCoordinate());
-                //Tells The GUI The Move We Want To Make
-                System.out.println("bestmove " + outputMove);
+                //With No Legal Moves The Game Is Over, UCI Sends The Null Move 0000
+                if(bestMove == null){
+                    System.out.println("bestmove 0000");
+                    continue;
+                }
+                System.out.println("bestmove " + MoveEncoding.toUCIString(MoveEncoding.fromMove(bestMove)));
 
                 //Make The Move On The Internal Board
                 final MoveTransition moveTransition = board.currentPlayer().makeMove(bestMove);
@@ -162,6 +110,57 @@ public class Application {
             }
         }
 
+    /**
+     * Creates The Board For A UCI position Command
+     *
+     * The Position Is Either startpos Or fen Followed By A FEN, Then Optionally moves Followed By Moves
+     * Such As e2e4 Or e7e8q, Which Are Each Made In Turn
+     * A Bad FEN Or Move Is Reported To The GUI As An info string Instead Of Stopping The Engine
+     * With A Bad FEN The Current Board Is Kept, With A Bad Move The Board Reached By The Moves Before It Is Kept
+     *
+     * @param positionCommand The position Command
+     * @param currentBoard The Board Before The Command, Kept If The FEN Can't Be Read
+     * @return The Board After All The Legal Moves
+     */
+    private Board createPosition(final String positionCommand, final Board currentBoard){
+        final String[] tokens = positionCommand.trim().split("\\s+");
+        int movesIndex = tokens.length;
+        for(int i = 0; i < tokens.length; i++){
+            if(tokens[i].equals("moves")){
+                movesIndex = i;
+                break;
+            }
+        }
+
+        Board board;
+        try {
+            if(tokens.length > 1 && tokens[1].equals("fen")){
+                board = FenUtilities.createGameFromFEN(String.join(" ", Arrays.copyOfRange(tokens, 2, movesIndex)));
+            } else {
+                board = Board.createStandardBoard();
+            }
+        } catch(final RuntimeException e){
+            System.out.println("info string Invalid Position, Keeping The Current Board: " + e.getMessage());
+            return currentBoard;
+        }
+
+        for(int i = movesIndex + 1; i < tokens.length; i++){
+            MoveTransition moveTransition = null;
+            try {
+                final Move move = Move.MoveFactory.createMove(board, tokens[i]);
+                moveTransition = board.currentPlayer().makeMove(move);
+            } catch(final RuntimeException e){
+                //An Unreadable Move Such As e9e4 Is Treated Like An Illegal One
+            }
+            if(moveTransition == null || !moveTransition.getMoveStatus().isDone()){
+                System.out.println("info string Illegal Move " + tokens[i] + ", Ignoring It And The Moves After It");
+                break;
+            }
+            board = moveTransition.getToBoard();
+        }
+        return board;
+    }
+
     /**
      * Runs The Menu
      */
@@ -264,8 +263,8 @@ public class Application {
             } else if (board.currentPlayer().equals(enginePlayer)){
                 //Allow The Engine To Select And Make A Move
 
-                //Gets A Random Move From The Collection
-                Move move = getRandomMove(board.currentPlayer().getPossibleMoves());
+                //Searches For The Best Move
+                Move move = searchMove(board);
 
                 MoveTransition moveTransition = board.currentPlayer().makeMove(move);
 
@@ -279,8 +278,8 @@ public class Application {
             }  else if (board.currentPlayer().equals(otherEnginePlayer)){
                 //Allow The Engine To Select And Make A Move
 
-                //Gets A Random Move From The Collection
-                Move move = getRandomMove(board.currentPlayer().getPossibleMoves());
+                //Searches For The Best Move
+                Move move = searchMove(board);
 
                 MoveTransition moveTransition = board.currentPlayer().makeMove(move);
 
@@ -296,9 +295,9 @@ public class Application {
                 board = moveTransition.getToBoard();
             }
 
-        } while (!board.currentPlayer().isInCheckMate() && !board.currentPlayer().isInStalemate());
+        } while (!board.getGameStatus().isGameOver());
 
-        if(board.currentPlayer().isInCheckMate()){
+        if(board.getGameStatus() == GameStatus.CHECKMATE){
             System.out.println(board.currentPlayer().getOpponent().toString() + " Wins By Checkmate!");
         } else {
             System.out.println("The Game Has Ended In A Draw");
@@ -329,10 +328,15 @@ public class Application {
         return move;
     }
 
-    private Move getRandomMove(Collection<Move> from) {
-        Random rnd = new Random();
-        int i = rnd.nextInt(from.size());
-        return (Move) from.toArray()[i];
+    /**
+     * Searches For The Engines Move And Prints What The Search Found
+     * @param board The Board To Move On
+     * @return The Best Move Found
+     */
+    private Move searchMove(Board board){
+        final SearchResult result = search.search(board, SEARCH_DEPTH);
+        System.out.println(result);
+        return result.getBestMove();
     }
 
 
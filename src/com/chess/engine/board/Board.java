@@ -4,7 +4,6 @@ import com.chess.engine.pieces.*;
 import com.chess.engine.player.BlackPlayer;
 import com.chess.engine.player.Player;
 import com.chess.engine.player.WhitePlayer;
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
 import java.util.*;
@@ -12,38 +11,57 @@ import java.util.*;
 /**
  * The Board Class Used To Hold All The Information About The Board Including All Tiles, All Pieces And The Players Including The Current Player
  */
-public final class Board {
+public final class Board implements Position {
 
 
-    private final List<Tile> gameBoard;
+    private final Piece[] gameBoard;
+    private final long[] pieceBitboards;
+    private final long whiteOccupancy;
+    private final long blackOccupancy;
     private final Collection<Piece> whitePieces;
     private final Collection<Piece> blackPieces;
     private final Collection<Piece> whiteTakenPieces;
     private final Collection<Piece> blackTakenPieces;
 
-    private final WhitePlayer whitePlayer;
-    private final BlackPlayer blackPlayer;
-    private final Player currentPlayer;
+    //Created On First Use As Most Boards Built During A Search Are Never Asked For Both Players
+    //Volatile So A Board Shared Between Threads Only Ever Hands Out Fully Built Players
+    private volatile WhitePlayer whitePlayer;
+    private volatile BlackPlayer blackPlayer;
+    private volatile GameStatus gameStatus;
 
+    private final Alliance nextMoveMaker;
     private final Pawn enPassantPawn;
+    private final int enPassantSquare;
+    private final int castlingRights;
+    private final long zobristKey;
 
     /**
      * Constructor For The Board
      * @param builder
      */
     private Board(Builder builder){
-        this.gameBoard = createGameBoard(builder);
-        this.whitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-        this.blackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
-
+        //The Builder Already Holds The Pieces By Tile And Their Bitboards, Copied So Changing The Builder Later Can't Change The Board
+        this.gameBoard = builder.boardConfig.clone();
+        this.pieceBitboards = builder.pieceBitboards.clone();
+        this.whiteOccupancy = calculateOccupancy(this.pieceBitboards, Alliance.WHITE);
+        this.blackOccupancy = calculateOccupancy(this.pieceBitboards, Alliance.BLACK);
+        this.whitePieces = new ActivePieces(this.whiteOccupancy);
+        this.blackPieces = new ActivePieces(this.blackOccupancy);
+
+        this.nextMoveMaker = builder.nextMoveMaker;
         this.enPassantPawn = builder.enPassantPawn;
-
-        Collection<Move> whiteStandardLegalMoves = calculatePossibleMoves(this.whitePieces);
-        Collection<Move> blackStandardLegalMoves = calculatePossibleMoves(this.blackPieces);
-
-        this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-        this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
+        this.enPassantSquare = calculateEnPassantSquare(this.enPassantPawn);
+        this.castlingRights = builder.hasCastlingRights ? builder.castlingRights : calculateCastlingRights();
+
+        //Moves Pass On A Key They Updated Incrementally, Any Other Board Is Hashed From Scratch
+        if(builder.hasZobristKey){
+            this.zobristKey = builder.zobristKey;
+            if(Zobrist.DEBUG){
+                Zobrist.verifyKey(this);
+            }
+        } else {
+            this.zobristKey = Zobrist.calculateKey(this);
+        }
 
         whiteTakenPieces = null;
         blackTakenPieces = null;
@@ -62,7 +80,7 @@ public final class Board {
         final StringBuilder builder = new StringBuilder();
 
         for(int i = 0; i < BoardUtils.NUM_TILES; i ++){
-            final String tileText = this.gameBoard.get(i).toString();
+            final String tileText = getTile(i).toString();
             builder.append(String.format("%3s", tileText));
             if((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0){
                 builder.append("\n");
@@ -72,19 +90,67 @@ public final class Board {
     }
 
     /**
-     * Gets The White Player
+     * Gets The Hash Code Of The Board From Its Zobrist Key
+     * @return The Hash Code
+     */
+    @Override
+    public int hashCode(){
+        return (int) (this.zobristKey ^ (this.zobristKey >>> 32));
+    }
+
+    /**
+     * Overrides The Default Equals Method To Check If Two Boards Hold The Same Position
+     *
+     * Compares The Zobrist Keys First, Then The Piece Bitboards, Side To Move, Castling Rights And En Passant Tile
+     *
+     * @param other The Other Object To Compare
+     * @return If The Positions Are Equal
+     */
+    @Override
+    public boolean equals(final Object other){
+        if(this == other){
+            return true;
+        }
+        if(!(other instanceof Board)){
+            return false;
+        }
+
+        final Board otherBoard = (Board) other;
+        return this.zobristKey == otherBoard.zobristKey &&
+                this.nextMoveMaker == otherBoard.nextMoveMaker &&
+                this.castlingRights == otherBoard.castlingRights &&
+                this.enPassantSquare == otherBoard.enPassantSquare &&
+                Arrays.equals(this.pieceBitboards, otherBoard.pieceBitboards);
+    }
+
+    /**
+     * Gets The White Player, Creating It The First Time It Is Asked For
+     *
+     * Two Threads Racing Here Can Each Create A Player, Both Hold The Same State So Whichever Is Written Last Is Kept
+     * And The Volatile Field Makes Sure The Other Thread Sees It Fully Built
+     *
      * @return The White Player
      */
     public Player whitePlayer(){
-        return this.whitePlayer;
+        WhitePlayer player = this.whitePlayer;
+        if(player == null){
+            player = new WhitePlayer(this);
+            this.whitePlayer = player;
+        }
+        return player;
     }
 
     /**
-     * Gets The Black Player
+     * Gets The Black Player, Creating It The First Time It Is Asked For
      * @return The Black Player
      */
     public Player blackPlayer(){
-        return this.blackPlayer;
+        BlackPlayer player = this.blackPlayer;
+        if(player == null){
+            player = new BlackPlayer(this);
+            this.blackPlayer = player;
+        }
+        return player;
     }
 
     /**
@@ -92,7 +158,23 @@ public final class Board {
      * @return The Current Player
      */
     public Player currentPlayer(){
-        return this.currentPlayer;
+        return this.nextMoveMaker == Alliance.WHITE ? whitePlayer() : blackPlayer();
+    }
+
+    /**
+     * Gets Whether The Player To Move Is Checkmated, Stalemated Or Can Play On, Working It Out The First Time It Is Asked For
+     *
+     * Only Searches Until The First Legal Move So It Is Cheaper Than Generating Every Move
+     *
+     * @return The Status Of The Game
+     */
+    public GameStatus getGameStatus(){
+        GameStatus status = this.gameStatus;
+        if(status == null){
+            status = MoveGenerator.calculateGameStatus(this);
+            this.gameStatus = status;
+        }
+        return status;
     }
 
     /**
@@ -120,47 +202,70 @@ public final class Board {
     }
 
     /**
-     * Calculates All The Possible Legal Moves For The Current Board State
-     *
-     * Iterates Through The Current Pieces Where If The Move Is Legal(Doesn't Leave Your King In Check) Is Added To The List
-     *
-     * @param pieces All The Active Pieces On The Current Board
-     * @return A Copy Of The List legalMoves
+     * Calculates The Tiles Occupied By An Alliance By Combining All Of Its Piece Bitboards
+     * @param pieceBitboards The Piece Bitboards
+     * @param alliance The Alliance Who's Occupancy You Want To Get
+     * @return A Bitboard Of All The Tiles Occupied By That Alliance
      */
-    private Collection<Move> calculatePossibleMoves(Collection<Piece> pieces){
-
-        final List<Move> legalMoves = new ArrayList<>();
-
-        //This Creates A List With All The Possible Moves However This Could Result In A Invalid Game State
-        for(final Piece piece : pieces){
-            legalMoves.addAll(piece.calculatePossibleMoves(this));
+    private static long calculateOccupancy(final long[] pieceBitboards, final Alliance alliance){
+        long occupancy = 0L;
+        for(final Piece.PieceType pieceType : Piece.PieceType.values()){
+            occupancy |= pieceBitboards[BoardUtils.getBitboardIndex(alliance, pieceType)];
         }
+        return occupancy;
+    }
 
-        return ImmutableList.copyOf(legalMoves);
+    /**
+     * Calculates The Tile A Pawn Can Capture On En Passant, Which Is The Tile The En Passant Pawn Jumped Over
+     * @param enPassantPawn The Pawn That Just Jumped, Or Null
+     * @return The En Passant Tile Or -1 If There Is None
+     */
+    private static int calculateEnPassantSquare(final Pawn enPassantPawn){
+        if(enPassantPawn == null){
+            return -1;
+        }
+        return enPassantPawn.getPiecePosition() + (BoardUtils.NUM_TILES_PER_ROW * enPassantPawn.getPieceAlliance().getOppositeDirection());
     }
 
     /**
-     * Calculates All The Active Pieces On The Board For An Alliance
+     * Calculates The Castling Rights As A Bit Mask For A Board Built Without Them
      *
-     * Iterates Over All The Tiles And Checks If The Tile Has A Piece On It
-     * Then It Checks If Those Pieces Match The Given Alliance
+     * A Side Keeps A Castling Right While Its King And That Sides Rook Are Both On Their Starting Tiles And Haven't Moved
+     * Moves Pass The Rights On Through The Builder So This Is Only Used For Set Up Positions
      *
-     * @param gameBoard The Tiles On The Board To Evaluate
-     * @param alliance The Alliance Who's Pieces You Want To Get
-     * @return All The Pieces On The Board With Matching Alliance
-     */
-    private Collection<Piece> calculateActivePieces(List<Tile> gameBoard, Alliance alliance){
-        final List<Piece> activePieces = new ArrayList<>();
-
-        for(final Tile tile : gameBoard){
-            if(tile.isTileOccupied()){
-                final Piece piece = tile.getPiece();
-                if(piece.getPieceAlliance() == alliance){
-                    activePieces.add(piece);
-                }
+     * @return The Castling Rights Using The BoardUtils Castle Bits
+     */
+    private int calculateCastlingRights(){
+        int rights = 0;
+        if(isUnmovedPiece(60, Piece.PieceType.KING, Alliance.WHITE)){
+            if(isUnmovedPiece(63, Piece.PieceType.ROOK, Alliance.WHITE)){
+                rights |= BoardUtils.WHITE_KING_SIDE_CASTLE;
+            }
+            if(isUnmovedPiece(56, Piece.PieceType.ROOK, Alliance.WHITE)){
+                rights |= BoardUtils.WHITE_QUEEN_SIDE_CASTLE;
+            }
+        }
+        if(isUnmovedPiece(4, Piece.PieceType.KING, Alliance.BLACK)){
+            if(isUnmovedPiece(7, Piece.PieceType.ROOK, Alliance.BLACK)){
+                rights |= BoardUtils.BLACK_KING_SIDE_CASTLE;
+            }
+            if(isUnmovedPiece(0, Piece.PieceType.ROOK, Alliance.BLACK)){
+                rights |= BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
             }
         }
-        return ImmutableList.copyOf(activePieces);
+        return rights;
+    }
+
+    /**
+     * Checks If The Given Tile Holds A Piece Of The Given Type And Alliance That Is Still On Its First Move
+     * @param tileCoordinate The Coordinate Of The Tile
+     * @param pieceType The Expected Piece Type
+     * @param alliance The Expected Alliance
+     * @return If That Piece Is On The Tile And Hasn't Moved
+     */
+    private boolean isUnmovedPiece(final int tileCoordinate, final Piece.PieceType pieceType, final Alliance alliance){
+        final Piece piece = this.gameBoard[tileCoordinate];
+        return piece != null && piece.getPieceType() == pieceType && piece.getPieceAlliance() == alliance && piece.isFirstMove();
     }
 
     /**
@@ -169,20 +274,112 @@ public final class Board {
      * @return The Tile On The Board
      */
     public Tile getTile(final int tileCoordinates){
-        return gameBoard.get(tileCoordinates);
+        return Tile.createTile(tileCoordinates, this.gameBoard[tileCoordinates]);
     }
 
     /**
-     * Given The Builder It Returns A List Of All The Tiles In The Board Ordered By Coordinate
-     * @param builder The Builder
-     * @return A List Of All The Tiles
+     * Gets The Piece At The Given Coordinate Without Creating A Tile
+     * @param tileCoordinate The Coordinate Of The Tile
+     * @return The Piece On That Tile Or Null If The Tile Is Empty
      */
-    private static List<Tile> createGameBoard(final Builder builder){
-        final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
-        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
-            tiles[i] = Tile.createTile(i, builder.boardConfig.get(i));
-        }
-        return ImmutableList.copyOf(tiles);
+    public Piece getPiece(final int tileCoordinate){
+        return this.gameBoard[tileCoordinate];
+    }
+
+    /**
+     * Gets Whether The Tile At The Given Coordinate Is Occupied
+     * @param tileCoordinate The Coordinate Of The Tile
+     * @return If The Tile Is Occupied
+     */
+    public boolean isTileOccupied(final int tileCoordinate){
+        return ((this.whiteOccupancy | this.blackOccupancy) & (1L << tileCoordinate)) != 0;
+    }
+
+    /**
+     * Gets Whether A Tile Is Attacked By Any Piece Of An Alliance
+     * @param tileCoordinate The Tile To Check
+     * @param attackingAlliance The Alliance Of The Attacking Pieces
+     * @return If Any Piece Of That Alliance Attacks The Tile
+     */
+    public boolean isSquareAttacked(final int tileCoordinate, final Alliance attackingAlliance){
+        return BoardUtils.isSquareAttacked(this, tileCoordinate, attackingAlliance);
+    }
+
+    /**
+     * Gets Every Piece Of Either Alliance That Attacks A Tile
+     * @param tileCoordinate The Tile To Check
+     * @return The Bitboard Of Attacking Pieces
+     */
+    public long attackersOf(final int tileCoordinate){
+        final long occupancy = getOccupancy();
+        return BoardUtils.getAttackers(this, tileCoordinate, Alliance.WHITE, occupancy) |
+                BoardUtils.getAttackers(this, tileCoordinate, Alliance.BLACK, occupancy);
+    }
+
+    /**
+     * Gets The Bitboard Of All Tiles Holding The Given Alliance And Piece Type
+     * @param alliance The Alliance Of The Pieces
+     * @param pieceType The Type Of The Pieces
+     * @return The Bitboard For Those Pieces
+     */
+    @Override
+    public long getPieceBitboard(final Alliance alliance, final Piece.PieceType pieceType){
+        return this.pieceBitboards[BoardUtils.getBitboardIndex(alliance, pieceType)];
+    }
+
+    /**
+     * Gets The Bitboard Of All Tiles Occupied By An Alliance
+     * @param alliance The Alliance
+     * @return The Alliances Occupancy
+     */
+    @Override
+    public long getOccupancy(final Alliance alliance){
+        return alliance == Alliance.WHITE ? this.whiteOccupancy : this.blackOccupancy;
+    }
+
+    /**
+     * Gets The Bitboard Of All Occupied Tiles
+     * @return The Occupancy Of Both Alliances
+     */
+    @Override
+    public long getOccupancy(){
+        return this.whiteOccupancy | this.blackOccupancy;
+    }
+
+    /**
+     * Gets The Alliance Of The Player To Move
+     * @return The Alliance Who's Turn It Is
+     */
+    @Override
+    public Alliance getNextMoveMaker(){
+        return this.nextMoveMaker;
+    }
+
+    /**
+     * Gets The Tile That Can Be Captured On En Passant
+     * @return The En Passant Tile Or -1 If There Is None
+     */
+    @Override
+    public int getEnPassantSquare(){
+        return this.enPassantSquare;
+    }
+
+    /**
+     * Gets The Castling Rights For Both Players
+     * @return The Castling Rights Using The BoardUtils Castle Bits
+     */
+    @Override
+    public int getCastlingRights(){
+        return this.castlingRights;
+    }
+
+    /**
+     * Gets The Zobrist Key Of The Position
+     * @return The 64 Bit Position Key
+     */
+    @Override
+    public long getZobristKey(){
+        return this.zobristKey;
     }
 
     /**
@@ -192,40 +389,40 @@ public final class Board {
     public static Board createStandardBoard(){
         final Builder builder = new Builder();
         //Black Layout
-        builder.setPiece(new Rook(0, Alliance.BLACK));
-        builder.setPiece(new Knight(1, Alliance.BLACK));
-        builder.setPiece(new Bishop(2, Alliance.BLACK));
-        builder.setPiece(new Queen(3, Alliance.BLACK));
-        builder.setPiece(new King(4, Alliance.BLACK));
-        builder.setPiece(new Bishop(5, Alliance.BLACK));
-        builder.setPiece(new Knight(6, Alliance.BLACK));
-        builder.setPiece(new Rook(7, Alliance.BLACK));
-        builder.setPiece(new Pawn(8, Alliance.BLACK));
-        builder.setPiece(new Pawn(9, Alliance.BLACK));
-        builder.setPiece(new Pawn(10, Alliance.BLACK));
-        builder.setPiece(new Pawn(11, Alliance.BLACK));
-        builder.setPiece(new Pawn(12, Alliance.BLACK));
-        builder.setPiece(new Pawn(13, Alliance.BLACK));
-        builder.setPiece(new Pawn(14, Alliance.BLACK));
-        builder.setPiece(new Pawn(15, Alliance.BLACK));
+        builder.setPiece(PieceUtils.getRook(0, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getKnight(1, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getBishop(2, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getQueen(3, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getKing(4, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getBishop(5, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getKnight(6, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getRook(7, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(8, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(9, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(10, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(11, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(12, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(13, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(14, Alliance.BLACK, true));
+        builder.setPiece(PieceUtils.getPawn(15, Alliance.BLACK, true));
 
         //White Layout
-        builder.setPiece(new Pawn(48, Alliance.WHITE));
-        builder.setPiece(new Pawn(49, Alliance.WHITE));
-        builder.setPiece(new Pawn(50, Alliance.WHITE));
-        builder.setPiece(new Pawn(51, Alliance.WHITE));
-        builder.setPiece(new Pawn(52, Alliance.WHITE));
-        builder.setPiece(new Pawn(53, Alliance.WHITE));
-        builder.setPiece(new Pawn(54, Alliance.WHITE));
-        builder.setPiece(new Pawn(55, Alliance.WHITE));
-        builder.setPiece(new Rook(56, Alliance.WHITE));
-        builder.setPiece(new Knight(57, Alliance.WHITE));
-        builder.setPiece(new Bishop(58, Alliance.WHITE));
-        builder.setPiece(new Queen(59, Alliance.WHITE));
-        builder.setPiece(new King(60, Alliance.WHITE));
-        builder.setPiece(new Bishop(61, Alliance.WHITE));
-        builder.setPiece(new Knight(62, Alliance.WHITE ));
-        builder.setPiece(new Rook(63, Alliance.WHITE));
+        builder.setPiece(PieceUtils.getPawn(48, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getPawn(49, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getPawn(50, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getPawn(51, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getPawn(52, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getPawn(53, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getPawn(54, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getPawn(55, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getRook(56, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getKnight(57, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getBishop(58, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getQueen(59, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getKing(60, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getBishop(61, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getKnight(62, Alliance.WHITE, true));
+        builder.setPiece(PieceUtils.getRook(63, Alliance.WHITE, true));
 
         //White Always Move's First
         builder.setMoveMaker(Alliance.WHITE);
@@ -235,17 +432,62 @@ public final class Board {
 
     /**
      * Gets All The Legal Moves On The Board
+     *
+     * This Generates The Moves For Both Players So Prefer The Current Players Possible Moves Where Possible
+     *
      * @return An Iterable Of All The Legal Moves On The Board
      */
     public Iterable<Move> getAllLegalMoves() {
-        return Iterables.unmodifiableIterable(Iterables.concat(this.whitePlayer.getPossibleMoves(), this.blackPlayer.getPossibleMoves()));
+        return Iterables.unmodifiableIterable(Iterables.concat(whitePlayer().getPossibleMoves(), blackPlayer().getPossibleMoves()));
     }
 
+    /**
+     * Gets The Collection Of All The Pieces On The Board
+     * @return Both Alliances Pieces
+     */
     public Collection<Piece> getAllPieces() {
-        List<Piece> pieces = new ArrayList<>();
-        pieces.addAll(whitePieces);
-        pieces.addAll(blackPieces);
-        return ImmutableList.copyOf(pieces);
+        return new ActivePieces(getOccupancy());
+    }
+
+    /**
+     * A Read Only View Of The Pieces On The Tiles Set In An Occupancy Bitboard
+     *
+     * Nothing Is Copied, Iterating Walks The Set Bits From The Lowest Coordinate Upwards
+     */
+    private final class ActivePieces extends AbstractCollection<Piece> {
+
+        private final long occupancy;
+
+        ActivePieces(final long occupancy){
+            this.occupancy = occupancy;
+        }
+
+        @Override
+        public Iterator<Piece> iterator(){
+            return new Iterator<Piece>() {
+                private long remaining = occupancy;
+
+                @Override
+                public boolean hasNext(){
+                    return this.remaining != 0;
+                }
+
+                @Override
+                public Piece next(){
+                    if(this.remaining == 0){
+                        throw new NoSuchElementException();
+                    }
+                    final int tileCoordinate = Long.numberOfTrailingZeros(this.remaining);
+                    this.remaining &= this.remaining - 1;
+                    return gameBoard[tileCoordinate];
+                }
+            };
+        }
+
+        @Override
+        public int size(){
+            return Long.bitCount(this.occupancy);
+        }
     }
 
     /**
@@ -253,24 +495,63 @@ public final class Board {
      */
     public static class Builder{
 
-        Map<Integer, Piece> boardConfig;
+        final Piece[] boardConfig;
+        final long[] pieceBitboards;
         Alliance nextMoveMaker;
         Pawn enPassantPawn;
+        int castlingRights;
+        boolean hasCastlingRights;
+        long zobristKey;
+        boolean hasZobristKey;
 
         /**
-         * The Default Constructor Of Builder Initializing A Hash Map
+         * The Default Constructor Of Builder Starting From An Empty Board
          */
         public Builder(){
-            this.boardConfig = new HashMap<>();
+            this.boardConfig = new Piece[BoardUtils.NUM_TILES];
+            this.pieceBitboards = new long[BoardUtils.NUM_BITBOARDS];
         }
 
         /**
-         * Sets A Piece On The Board
+         * Constructor Of Builder Starting From The Pieces Of Another Board
+         *
+         * Moves Use This So They Only Have To Change The Tiles They Affect Instead Of Setting Every Piece Again
+         * The Move Maker And Castling Rights Are Carried Over, The En Passant Pawn Isn't As It Only Lasts One Move
+         *
+         * @param board The Board To Start From
+         */
+        public Builder(final Board board){
+            this.boardConfig = board.gameBoard.clone();
+            this.pieceBitboards = board.pieceBitboards.clone();
+            this.nextMoveMaker = board.nextMoveMaker;
+            this.castlingRights = board.castlingRights;
+            this.hasCastlingRights = true;
+        }
+
+        /**
+         * Sets A Piece On The Board, Replacing Any Piece Already On Its Tile
          * @param piece The Piece To Be Places
          * @return The Builder
          */
         public Builder setPiece(final Piece piece){
-            this.boardConfig.put(piece.getPiecePosition(), piece);
+            final int tileCoordinate = piece.getPiecePosition();
+            removePiece(tileCoordinate);
+            this.boardConfig[tileCoordinate] = piece;
+            this.pieceBitboards[BoardUtils.getBitboardIndex(piece.getPieceAlliance(), piece.getPieceType())] |= 1L << tileCoordinate;
+            return this;
+        }
+
+        /**
+         * Removes The Piece On A Tile If There Is One
+         * @param tileCoordinate The Tile To Clear
+         * @return The Builder
+         */
+        public Builder removePiece(final int tileCoordinate){
+            final Piece piece = this.boardConfig[tileCoordinate];
+            if(piece != null){
+                this.pieceBitboards[BoardUtils.getBitboardIndex(piece.getPieceAlliance(), piece.getPieceType())] &= ~(1L << tileCoordinate);
+                this.boardConfig[tileCoordinate] = null;
+            }
             return this;
         }
 
@@ -286,6 +567,9 @@ public final class Board {
 
         /**
          * Builds A Board
+         *
+         * The Board Gets Its Own Copy Of The Builders Piece Array And Bitboards, So The Builder Can Still Be Changed And Reused
+         *
          * @return The Board
          */
         public Board build(){
@@ -296,5 +580,30 @@ public final class Board {
             this.enPassantPawn = enPassantPawn;
         }
 
+        /**
+         * Sets The Castling Rights Of The Board Being Built
+         *
+         * When They Aren't Set They Are Worked Out From The Kings And Rooks That Haven't Moved
+         *
+         * @param castlingRights The Castling Rights Using The BoardUtils Castle Bits
+         * @return The Builder
+         */
+        public Builder setCastlingRights(final int castlingRights){
+            this.castlingRights = castlingRights;
+            this.hasCastlingRights = true;
+            return this;
+        }
+
+        /**
+         * Sets The Zobrist Key Of The Board Being Built, Used By Moves That Update The Key Incrementally
+         * @param zobristKey The Key Of The Resulting Position
+         * @return The Builder
+         */
+        Builder setZobristKey(final long zobristKey){
+            this.zobristKey = zobristKey;
+            this.hasZobristKey = true;
+            return this;
+        }
+
     }
 }
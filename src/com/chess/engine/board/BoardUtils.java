@@ -1,7 +1,10 @@
 package com.chess.engine.board;
 
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece;
 import com.google.common.collect.ImmutableMap;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,11 +19,44 @@ public class BoardUtils {
     public static boolean[] EIGHTH_COLUMN = initColumn(7);
 
     public static boolean[] FIRST_ROW = initRow(0);
+    public static boolean[] SECOND_ROW = initRow(8);
+    public static boolean[] SEVENTH_ROW = initRow(48);
     public static boolean[] EIGHT_ROW = initRow(56);
 
     public static final int NUM_TILES = 64;
     public static final int NUM_TILES_PER_ROW = 8;
 
+    //One Bitboard Per Piece Type Per Alliance, Bit N Of A Bitboard Is The Tile With Coordinate N
+    public static final int NUM_PIECE_TYPES = 6;
+    public static final int NUM_BITBOARDS = 12;
+
+    //The Castling Rights Bits, A Set Bit Means That Castle Is Still Available
+    public static final int WHITE_KING_SIDE_CASTLE = 1;
+    public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+    public static final int BLACK_KING_SIDE_CASTLE = 4;
+    public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+    public static final int ALL_CASTLES = 15;
+
+    //For Each Tile The Castling Rights That Survive A Move From Or To That Tile
+    public static final int[] CASTLING_RIGHTS_MASK = initCastlingRightsMask();
+
+    //For Each Tile The Bitboard Of Tiles A Knight Or King On That Tile Attacks
+    public static final long[] KNIGHT_ATTACKS = initLeaperAttacks(new int[]{-17, -15, -10, -6, 6, 10, 15, 17}, 2);
+    public static final long[] KING_ATTACKS = initLeaperAttacks(new int[]{-9, -8, -7, -1, 1, 7, 8, 9}, 1);
+
+    //For Each Alliance And Tile The Bitboard Of Tiles A Pawn Of That Alliance On That Tile Attacks
+    public static final long[][] PAWN_ATTACKS = {
+            initLeaperAttacks(new int[]{-9, -7}, 1),
+            initLeaperAttacks(new int[]{7, 9}, 1)};
+
+    //For Each Pair Of Tiles On A Shared Row, Column Or Diagonal The Tiles Strictly Between Them And The Whole Line Through Them
+    public static final long[][] BETWEEN = new long[NUM_TILES][NUM_TILES];
+    public static final long[][] LINE = new long[NUM_TILES][NUM_TILES];
+
+    static {
+        initLines();
+    }
+
     public static final String[] ALGEBRAIC_NOTATION = initializeAlgebraicNotation();
     public static final Map<String, Integer> POSITION_TO_COORDINATE = initializePositionToCoordinate();
 
@@ -31,6 +67,49 @@ public class BoardUtils {
         throw new RuntimeException("Can't Be Instantiated");
     }
 
+    /**
+     * Initialises The Castling Rights Mask For Each Tile
+     *
+     * Moving From Or To A Kings Or Rooks Starting Tile Removes The Castles That Depend On That Piece
+     * Every Other Tile Keeps All The Castling Rights
+     *
+     * @return An Array Of Castling Rights Masks Indexed By Coordinate
+     */
+    private static int[] initCastlingRightsMask(){
+        final int[] mask = new int[64];
+        Arrays.fill(mask, ALL_CASTLES);
+        mask[0] &= ~BLACK_QUEEN_SIDE_CASTLE;
+        mask[4] &= ~(BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE);
+        mask[7] &= ~BLACK_KING_SIDE_CASTLE;
+        mask[56] &= ~WHITE_QUEEN_SIDE_CASTLE;
+        mask[60] &= ~(WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE);
+        mask[63] &= ~WHITE_KING_SIDE_CASTLE;
+        return mask;
+    }
+
+    /**
+     * Initialises The Between And Line Bitboards For Every Pair Of Tiles
+     *
+     * Two Tiles Share A Line When A Rook Or Bishop On One Would Attack The Other On An Empty Board
+     * The Tiles Between Them Are Where Both Pieces Attack Each Other With Only The Other Tile Occupied
+     * Tiles That Don't Share A Line Are Left As Empty Bitboards
+     */
+    private static void initLines(){
+        for(int from = 0; from < NUM_TILES; from++){
+            for(int to = 0; to < NUM_TILES; to++){
+                final long fromTile = 1L << from;
+                final long toTile = 1L << to;
+                if((MagicBitboards.getRookAttacks(from, 0L) & toTile) != 0){
+                    BETWEEN[from][to] = MagicBitboards.getRookAttacks(from, toTile) & MagicBitboards.getRookAttacks(to, fromTile);
+                    LINE[from][to] = (MagicBitboards.getRookAttacks(from, 0L) & MagicBitboards.getRookAttacks(to, 0L)) | fromTile | toTile;
+                } else if((MagicBitboards.getBishopAttacks(from, 0L) & toTile) != 0){
+                    BETWEEN[from][to] = MagicBitboards.getBishopAttacks(from, toTile) & MagicBitboards.getBishopAttacks(to, fromTile);
+                    LINE[from][to] = (MagicBitboards.getBishopAttacks(from, 0L) & MagicBitboards.getBishopAttacks(to, 0L)) | fromTile | toTile;
+                }
+            }
+        }
+    }
+
     /**
      * Initlalizes The Algerbraic Notation For The Coordinates Of Each Tile
      * @return An Array Of String Of Algebraic Notation
@@ -75,6 +154,30 @@ public class BoardUtils {
         return column;
     }
 
+    /**
+     * Initialises The Attack Bitboards For A Piece That Jumps By Fixed Offsets
+     *
+     * For Each Tile Every Offset That Stays On The Board And Doesn't Wrap Around To The Other Side Is Set
+     * An Offset Wraps When The Destination Column Is Further Away Than The Piece Can Reach
+     *
+     * @param offsets The Coordinate Offsets The Piece Can Move By
+     * @param maxColumnDistance The Furthest Number Of Columns The Piece Can Move
+     * @return An Array Of Attack Bitboards Indexed By Coordinate
+     */
+    private static long[] initLeaperAttacks(final int[] offsets, final int maxColumnDistance){
+        final long[] attacks = new long[NUM_TILES];
+        for(int tile = 0; tile < NUM_TILES; tile++){
+            for(final int offset : offsets){
+                final int destination = tile + offset;
+                if(isValidTile(destination) &&
+                        Math.abs((destination % NUM_TILES_PER_ROW) - (tile % NUM_TILES_PER_ROW)) <= maxColumnDistance){
+                    attacks[tile] |= 1L << destination;
+                }
+            }
+        }
+        return attacks;
+    }
+
     private static boolean[] initRow(int rowNumber) {
         final boolean[] row = new boolean[NUM_TILES];
         do {
@@ -97,6 +200,53 @@ public class BoardUtils {
         }
     }
 
+    /**
+     * Gets The Index Of The Bitboard Holding The Given Alliance And Piece Type
+     * @param alliance The Alliance Of The Pieces
+     * @param pieceType The Type Of The Pieces
+     * @return The Bitboard Index
+     */
+    public static int getBitboardIndex(final Alliance alliance, final Piece.PieceType pieceType){
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+
+    /**
+     * Gets Whether A Tile Is Attacked By Any Piece Of An Alliance
+     * @param position The Position To Check
+     * @param tileCoordinate The Tile To Check
+     * @param attackingAlliance The Alliance Of The Attacking Pieces
+     * @return If Any Piece Of The Attacking Alliance Attacks The Tile
+     */
+    public static boolean isSquareAttacked(final Position position, final int tileCoordinate, final Alliance attackingAlliance){
+        return getAttackers(position, tileCoordinate, attackingAlliance, position.getOccupancy()) != 0;
+    }
+
+    /**
+     * Gets The Pieces Of An Alliance That Attack A Tile
+     *
+     * Looks Outward From The Tile Using Each Piece Types Attack Pattern And Keeps The Attackers Pieces It Lands On
+     * Pawns Are Found Using The Defenders Pawn Attacks As A Pawn Attacks A Tile When A Defending Pawn There Would Attack It Back
+     * The Occupancy Is Passed In So Callers Can Ask What Would Attack The Tile With Pieces Moved Or Removed
+     *
+     * @param position The Position To Check
+     * @param tileCoordinate The Tile To Check
+     * @param attackingAlliance The Alliance Of The Attacking Pieces
+     * @param occupancy The Occupied Tiles The Sliding Pieces Are Blocked By
+     * @return The Bitboard Of Attacking Pieces
+     */
+    public static long getAttackers(final Position position, final int tileCoordinate, final Alliance attackingAlliance, final long occupancy){
+        final long queens = position.getPieceBitboard(attackingAlliance, Piece.PieceType.QUEEN);
+        final Alliance defendingAlliance = attackingAlliance == Alliance.WHITE ? Alliance.BLACK : Alliance.WHITE;
+
+        return (PAWN_ATTACKS[defendingAlliance.ordinal()][tileCoordinate] & position.getPieceBitboard(attackingAlliance, Piece.PieceType.PAWN)) |
+                (KNIGHT_ATTACKS[tileCoordinate] & position.getPieceBitboard(attackingAlliance, Piece.PieceType.KNIGHT)) |
+                (KING_ATTACKS[tileCoordinate] & position.getPieceBitboard(attackingAlliance, Piece.PieceType.KING)) |
+                (MagicBitboards.getBishopAttacks(tileCoordinate, occupancy) &
+                        (position.getPieceBitboard(attackingAlliance, Piece.PieceType.BISHOP) | queens)) |
+                (MagicBitboards.getRookAttacks(tileCoordinate, occupancy) &
+                        (position.getPieceBitboard(attackingAlliance, Piece.PieceType.ROOK) | queens));
+    }
+
     /**
      * Gets Tne Algebraic Notation For A Given Coordinate
      * @param coordinate The Coordinate To Get
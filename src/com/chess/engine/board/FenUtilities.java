@@ -0,0 +1,195 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.PieceUtils;
+
+/**
+ * Reads Boards From Forsyth Edwards Notation
+ *
+ * A FEN Lists The Pieces Row By Row From The Eighth Row Down, Then The Player To Move, The Castling Rights And The En Passant Tile
+ * The Halfmove Clock And Move Number Are Optional And Ignored As The Board Doesn't Track Them
+ */
+public final class FenUtilities {
+
+    /**
+     * The Default Constructor For Fen Utilities Which Shouldn't Be Able To Be Initialised
+     */
+    private FenUtilities(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Creates A Board From A FEN String
+     *
+     * Pawns On Their Starting Row Haven't Moved, Kings And Rooks Haven't Moved If The Castling Rights Still Allow Them To Castle
+     * A Castling Right Without Its King And Rook On Their Starting Tiles Is Dropped
+     *
+     * @param fenString The FEN String
+     * @return The Board
+     */
+    public static Board createGameFromFEN(final String fenString){
+        final String[] fenPartitions = fenString.trim().split("\\s+");
+        if(fenPartitions.length < 4){
+            throw new RuntimeException("Invalid FEN String " + fenString);
+        }
+
+        //The FEN Character On Each Tile, 0 For An Empty Tile
+        final char[] placement = new char[BoardUtils.NUM_TILES];
+        int tileCoordinate = 0;
+        for(final char fenCharacter : fenPartitions[0].toCharArray()){
+            if(fenCharacter == '/'){
+                if(tileCoordinate % BoardUtils.NUM_TILES_PER_ROW != 0){
+                    throw new RuntimeException("Invalid FEN Row In " + fenString);
+                }
+            } else if(Character.isDigit(fenCharacter)){
+                tileCoordinate += fenCharacter - '0';
+            } else {
+                if(tileCoordinate >= BoardUtils.NUM_TILES){
+                    throw new RuntimeException("Too Many Tiles In " + fenString);
+                }
+                placement[tileCoordinate++] = fenCharacter;
+            }
+        }
+        if(tileCoordinate != BoardUtils.NUM_TILES){
+            throw new RuntimeException("Wrong Number Of Tiles In " + fenString);
+        }
+
+        final int castlingRights = removeUnsupportedCastlingRights(parseCastlingRights(fenPartitions[2]), placement);
+        final Board.Builder builder = new Board.Builder();
+        final Piece[] pieces = new Piece[BoardUtils.NUM_TILES];
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            if(placement[i] != 0){
+                pieces[i] = createPiece(placement[i], i, castlingRights);
+                builder.setPiece(pieces[i]);
+            }
+        }
+
+        final Alliance nextMoveMaker = parseMoveMaker(fenPartitions[1]);
+        builder.setMoveMaker(nextMoveMaker);
+        builder.setCastlingRights(castlingRights);
+
+        //The En Passant Tile Is Behind The Pawn That Just Jumped
+        if(!fenPartitions[3].equals("-")){
+            final int enPassantSquare = BoardUtils.getCoordinateAtPosition(fenPartitions[3]);
+            final Piece enPassantPawn = pieces[enPassantSquare - (BoardUtils.NUM_TILES_PER_ROW * nextMoveMaker.getDirection())];
+            if(!(enPassantPawn instanceof Pawn) || enPassantPawn.getPieceAlliance() == nextMoveMaker){
+                throw new RuntimeException("No Pawn Can Be Taken En Passant On " + fenPartitions[3]);
+            }
+            builder.setEnPassant((Pawn) enPassantPawn);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Creates The Piece For A FEN Character, Uppercase For White And Lowercase For Black
+     * @param fenCharacter The FEN Character
+     * @param tileCoordinate The Tile The Piece Is On
+     * @param castlingRights The Castling Rights Of The Position
+     * @return The Piece
+     */
+    private static Piece createPiece(final char fenCharacter, final int tileCoordinate, final int castlingRights){
+        final Alliance alliance = Character.isUpperCase(fenCharacter) ? Alliance.WHITE : Alliance.BLACK;
+        final boolean isWhite = alliance == Alliance.WHITE;
+
+        switch(Character.toLowerCase(fenCharacter)){
+            case 'p':
+                return PieceUtils.getPawn(tileCoordinate, alliance, alliance.isPawnStartingSquare(tileCoordinate));
+            case 'n':
+                return PieceUtils.getKnight(tileCoordinate, alliance, false);
+            case 'b':
+                return PieceUtils.getBishop(tileCoordinate, alliance, false);
+            case 'r':
+                final int rookCastle;
+                if(tileCoordinate == (isWhite ? 63 : 7)){
+                    rookCastle = isWhite ? BoardUtils.WHITE_KING_SIDE_CASTLE : BoardUtils.BLACK_KING_SIDE_CASTLE;
+                } else if(tileCoordinate == (isWhite ? 56 : 0)){
+                    rookCastle = isWhite ? BoardUtils.WHITE_QUEEN_SIDE_CASTLE : BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+                } else {
+                    rookCastle = 0;
+                }
+                return PieceUtils.getRook(tileCoordinate, alliance, (castlingRights & rookCastle) != 0);
+            case 'q':
+                return PieceUtils.getQueen(tileCoordinate, alliance, false);
+            case 'k':
+                final int kingCastles = isWhite ?
+                        BoardUtils.WHITE_KING_SIDE_CASTLE | BoardUtils.WHITE_QUEEN_SIDE_CASTLE :
+                        BoardUtils.BLACK_KING_SIDE_CASTLE | BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+                return PieceUtils.getKing(tileCoordinate, alliance,
+                        tileCoordinate == (isWhite ? 60 : 4) && (castlingRights & kingCastles) != 0);
+            default:
+                throw new RuntimeException("Invalid FEN Piece " + fenCharacter);
+        }
+    }
+
+    /**
+     * Reads The Player To Move
+     * @param moveMaker The FEN Side To Move, w Or b
+     * @return The Alliance Of The Player To Move
+     */
+    private static Alliance parseMoveMaker(final String moveMaker){
+        switch(moveMaker){
+            case "w":
+                return Alliance.WHITE;
+            case "b":
+                return Alliance.BLACK;
+            default:
+                throw new RuntimeException("Invalid FEN Side To Move " + moveMaker);
+        }
+    }
+
+    /**
+     * Reads The Castling Rights
+     * @param castling The FEN Castling Field, Some Of KQkq Or -
+     * @return The Castling Rights Using The BoardUtils Castle Bits
+     */
+    private static int parseCastlingRights(final String castling){
+        int castlingRights = 0;
+        for(final char castle : castling.toCharArray()){
+            switch(castle){
+                case 'K':
+                    castlingRights |= BoardUtils.WHITE_KING_SIDE_CASTLE;
+                    break;
+                case 'Q':
+                    castlingRights |= BoardUtils.WHITE_QUEEN_SIDE_CASTLE;
+                    break;
+                case 'k':
+                    castlingRights |= BoardUtils.BLACK_KING_SIDE_CASTLE;
+                    break;
+                case 'q':
+                    castlingRights |= BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+                    break;
+                case '-':
+                    break;
+                default:
+                    throw new RuntimeException("Invalid FEN Castling Rights " + castling);
+            }
+        }
+        return castlingRights;
+    }
+
+    /**
+     * Drops The Castling Rights Whose King Or Rook Isn't On Its Starting Tile, As Those Castles Can't Be Made
+     * @param castlingRights The Castling Rights Read From The FEN
+     * @param placement The FEN Character On Each Tile
+     * @return The Castling Rights That Can Still Be Used
+     */
+    private static int removeUnsupportedCastlingRights(final int castlingRights, final char[] placement){
+        int supportedRights = castlingRights;
+        if(placement[60] != 'K' || placement[63] != 'R'){
+            supportedRights &= ~BoardUtils.WHITE_KING_SIDE_CASTLE;
+        }
+        if(placement[60] != 'K' || placement[56] != 'R'){
+            supportedRights &= ~BoardUtils.WHITE_QUEEN_SIDE_CASTLE;
+        }
+        if(placement[4] != 'k' || placement[7] != 'r'){
+            supportedRights &= ~BoardUtils.BLACK_KING_SIDE_CASTLE;
+        }
+        if(placement[4] != 'k' || placement[0] != 'r'){
+            supportedRights &= ~BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+        }
+        return supportedRights;
+    }
+}
@@ -0,0 +1,74 @@
+package com.chess.engine.board;
+
+/**
+ * The Enum For The Game Status, Whether The Player To Move Can Still Play On ( Ongoing / Checkmate / Stalemate)
+ */
+public enum GameStatus {
+    ONGOING {
+        /**
+         * Gets Whether The Game Is Over
+         * @return False
+         */
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+
+        /**
+         * Gets Whether The Game Ended In A Draw
+         * @return False
+         */
+        @Override
+        public boolean isDraw() {
+            return false;
+        }
+    },
+    CHECKMATE {
+        /**
+         * Gets Whether The Game Is Over
+         * @return True
+         */
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+
+        /**
+         * Gets Whether The Game Ended In A Draw
+         * @return False
+         */
+        @Override
+        public boolean isDraw() {
+            return false;
+        }
+    },
+    STALEMATE {
+        /**
+         * Gets Whether The Game Is Over
+         * @return True
+         */
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+
+        /**
+         * Gets Whether The Game Ended In A Draw
+         * @return True
+         */
+        @Override
+        public boolean isDraw() {
+            return true;
+        }
+    };
+
+    /**
+     * Gets Whether The Game Is Over
+     */
+    public abstract boolean isGameOver();
+
+    /**
+     * Gets Whether The Game Ended In A Draw
+     */
+    public abstract boolean isDraw();
+}
@@ -0,0 +1,176 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece;
+
+/**
+ * Decides Whether Pseudo Legal Moves Are Legal Without Making Them
+ *
+ * The Pieces Giving Check And The Pieces Pinned To The King Are Worked Out Once For A Position
+ * After That Each Move Is Checked With A Few Bitboard Tests
+ * King Moves Check Their Destination With The King Lifted Off The Board So It Can't Hide Behind Itself
+ * En Passant Removes Two Pieces From A Row So It Is Checked By Looking For Sliders Behind Both Pawns
+ */
+public final class LegalMoveFilter {
+
+    private final Position position;
+    private final Alliance alliance;
+    private final Alliance opponentAlliance;
+    private final int kingTile;
+    private final long checkers;
+    private final long checkMask;
+    private final long pinned;
+
+    /**
+     * Constructor For The Legal Move Filter
+     * @param position The Position The Moves Are Made On
+     * @param alliance The Alliance Of The Moving Player
+     */
+    public LegalMoveFilter(final Position position, final Alliance alliance){
+        this.position = position;
+        this.alliance = alliance;
+        this.opponentAlliance = alliance == Alliance.WHITE ? Alliance.BLACK : Alliance.WHITE;
+        this.kingTile = Long.numberOfTrailingZeros(position.getPieceBitboard(alliance, Piece.PieceType.KING));
+        this.checkers = BoardUtils.getAttackers(position, this.kingTile, this.opponentAlliance, position.getOccupancy());
+        this.checkMask = calculateCheckMask();
+        this.pinned = calculatePinned();
+    }
+
+    /**
+     * Gets The Opponents Pieces Giving Check
+     * @return The Bitboard Of Checking Pieces
+     */
+    public long getCheckers(){
+        return this.checkers;
+    }
+
+    /**
+     * Gets The Tiles A Piece Other Than The King Must Move To In Order To Deal With A Check
+     * @return Every Tile When Not In Check, The Checker And The Tiles Between It And The King In Single Check, Else No Tiles
+     */
+    public long getCheckMask(){
+        return this.checkMask;
+    }
+
+    /**
+     * Gets The Moving Players Pieces That Are Pinned To Their King
+     * @return The Bitboard Of Pinned Pieces
+     */
+    public long getPinned(){
+        return this.pinned;
+    }
+
+    /**
+     * Gets Whether The Moving Player Is In Check
+     * @return If Any Piece Gives Check
+     */
+    public boolean isInCheck(){
+        return this.checkers != 0;
+    }
+
+    /**
+     * Gets Whether A Move Is Legal
+     * @param move The Move To Check
+     * @return If The Move Doesn't Leave The Players King In Check
+     */
+    public boolean isLegal(final Move move){
+        return isLegal(MoveEncoding.fromMove(move));
+    }
+
+    /**
+     * Gets Whether An Encoded Pseudo Legal Move Is Legal
+     *
+     * Castles Need The King Out Of Check And The Tile It Passes And Lands On Unattacked
+     * Other King Moves Need Their Destination Unattacked Once The King Has Left Its Tile
+     * In Double Check Only The King Can Move
+     * Any Other Piece Must Land In The Check Mask And If It Is Pinned Stay On The Line Through Its King
+     *
+     * @param move The Encoded Move
+     * @return If The Move Doesn't Leave The Players King In Check
+     */
+    public boolean isLegal(final int move){
+        final int from = MoveEncoding.getFrom(move);
+        final int to = MoveEncoding.getTo(move);
+
+        if(MoveEncoding.isCastle(move)){
+            return this.checkers == 0 &&
+                    !BoardUtils.isSquareAttacked(this.position, (from + to) / 2, this.opponentAlliance) &&
+                    !BoardUtils.isSquareAttacked(this.position, to, this.opponentAlliance);
+        }
+
+        if(from == this.kingTile){
+            return BoardUtils.getAttackers(this.position, to, this.opponentAlliance,
+                    this.position.getOccupancy() ^ (1L << from)) == 0;
+        }
+
+        if(MoveEncoding.getFlag(move) == MoveEncoding.EN_PASSANT){
+            return isLegalEnPassant(from, to);
+        }
+
+        if((this.checkMask & (1L << to)) == 0){
+            return false;
+        }
+
+        return (this.pinned & (1L << from)) == 0 || (BoardUtils.LINE[this.kingTile][from] & (1L << to)) != 0;
+    }
+
+    /**
+     * Gets Whether An En Passant Capture Is Legal
+     *
+     * Both Pawns Leave The Row At Once, Which Can Uncover A Rook Or Queen Along It
+     * So The Capture Is Played Out On The Occupancy And The King Is Checked For Attackers
+     *
+     * @param from The Tile The Capturing Pawn Moves From
+     * @param to The En Passant Tile
+     * @return If The Capture Doesn't Leave The Players King In Check
+     */
+    private boolean isLegalEnPassant(final int from, final int to){
+        final int capturedTile = (from / BoardUtils.NUM_TILES_PER_ROW) * BoardUtils.NUM_TILES_PER_ROW + (to % BoardUtils.NUM_TILES_PER_ROW);
+        final long occupancy = (this.position.getOccupancy() ^ (1L << from) ^ (1L << capturedTile)) | (1L << to);
+        return (BoardUtils.getAttackers(this.position, this.kingTile, this.opponentAlliance, occupancy) & occupancy) == 0;
+    }
+
+    /**
+     * Calculates The Tiles A Piece Other Than The King Can Move To While In Check
+     * @return The Check Mask
+     */
+    private long calculateCheckMask(){
+        if(this.checkers == 0){
+            return -1L;
+        }
+        if(Long.bitCount(this.checkers) > 1){
+            return 0L;
+        }
+        return this.checkers | BoardUtils.BETWEEN[this.kingTile][Long.numberOfTrailingZeros(this.checkers)];
+    }
+
+    /**
+     * Calculates The Pieces Pinned To The King
+     *
+     * Looks Out From The King As A Rook And Bishop Through Its Own Pieces To Find The Opponents Sliders Lined Up On It
+     * A Piece Is Pinned When It Is The Only Piece Between One Of Those Sliders And The King
+     *
+     * @return The Bitboard Of Pinned Pieces
+     */
+    private long calculatePinned(){
+        final long opponentOccupancy = this.position.getOccupancy(this.opponentAlliance);
+        final long opponentQueens = this.position.getPieceBitboard(this.opponentAlliance, Piece.PieceType.QUEEN);
+
+        long snipers = (MagicBitboards.getRookAttacks(this.kingTile, opponentOccupancy) &
+                (this.position.getPieceBitboard(this.opponentAlliance, Piece.PieceType.ROOK) | opponentQueens)) |
+                (MagicBitboards.getBishopAttacks(this.kingTile, opponentOccupancy) &
+                (this.position.getPieceBitboard(this.opponentAlliance, Piece.PieceType.BISHOP) | opponentQueens));
+
+        long pinnedPieces = 0L;
+        while(snipers != 0){
+            final int sniperTile = Long.numberOfTrailingZeros(snipers);
+            snipers &= snipers - 1;
+
+            final long blockers = BoardUtils.BETWEEN[this.kingTile][sniperTile] & this.position.getOccupancy();
+            if(Long.bitCount(blockers) == 1){
+                pinnedPieces |= blockers & this.position.getOccupancy(this.alliance);
+            }
+        }
+        return pinnedPieces;
+    }
+}
@@ -0,0 +1,196 @@
+package com.chess.engine.board;
+
+/**
+ * The Sliding Piece Attack Tables Using Magic Bitboards
+ *
+ * For Each Tile A Mask Holds The Tiles Whose Occupancy Can Block A Rook Or Bishop, Ignoring The Board Edges
+ * Multiplying The Masked Occupancy By The Tiles Magic Number And Shifting Gives A Unique Index Into That Tiles Attack Table
+ * The Magic Numbers Were Found Ahead Of Time With A Sparse Random Search So Startup Only Has To Fill The Tables
+ */
+public final class MagicBitboards {
+
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+    private static final long[] ROOK_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final long[] ROOK_MAGICS = {
+            0x1880_0021_C000_8250L, 0x8040_2000_1000_4000L, 0x0900_0C10_2001_0041L, 0x1080_0408_0080_1000L,
+            0x0100_0500_0208_0010L, 0x0200_0102_0008_0410L, 0x2080_0100_0200_0080L, 0x0200_0041_0424_0882L,
+            0x0020_8000_4000_8020L, 0xC149_8040_0120_0180L, 0x0A01_8010_0120_0080L, 0x0001_0010_0100_0820L,
+            0x8C82_0010_0422_0008L, 0x900A_0010_0804_0200L, 0x4104_8009_0002_0080L, 0x0016_0012_0100_4084L,
+            0x4C08_9880_0040_0021L, 0x6020_00C0_3000_C000L, 0x4020_0480_1002_2080L, 0x84E8_0080_1000_0880L,
+            0x0C00_8080_0800_0400L, 0x0404_8180_0400_0200L, 0x2200_0C00_2218_0110L, 0x8401_0200_0044_0081L,
+            0x4000_8020_8000_4008L, 0x0410_0040_4000_2000L, 0x1000_2001_0011_0040L, 0x9240_0800_8010_0080L,
+            0x1008_0101_0010_0805L, 0x1801_0009_0004_0002L, 0x0124_02C4_0001_1008L, 0x0200_0882_0009_6409L,
+            0x0802_0041_0200_2080L, 0x0000_4010_0340_2000L, 0x2000_A000_8180_1008L, 0x0010_0208_0280_1080L,
+            0x0A01_0008_0100_1004L, 0xA020_8002_0080_0400L, 0x8800_4110_0400_0288L, 0x0104_0880_4A00_0114L,
+            0x0280_4000_8000_8021L, 0x0000_2010_0040_4001L, 0x0820_0204_0010_1000L, 0x0C00_0800_1000_8080L,
+            0x0082_0800_0501_0010L, 0x4001_0004_0003_0028L, 0x0408_0182_1004_0008L, 0x0089_008C_0042_0031L,
+            0x1880_0100_2040_8100L, 0x2002_8040_0020_0480L, 0x1001_A003_1000_8480L, 0x2026_0010_0840_2200L,
+            0x0010_0400_0800_8080L, 0x0800_8004_0002_0080L, 0x4200_0842_0110_8400L, 0x2280_4041_0400_B200L,
+            0x000E_0041_1100_6082L, 0x3040_2581_1100_4001L, 0x0000_4010_0A00_2082L, 0x08B6_0040_6010_2826L,
+            0x0108_0010_0500_0603L, 0x0001_0004_0048_020BL, 0x7008_1000_8842_0104L, 0x8000_0021_0044_0882L};
+    private static final int[] ROOK_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final long[][] ROOK_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+    private static final long[] BISHOP_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final long[] BISHOP_MAGICS = {
+            0x0884_280A_0810_2501L, 0x0484_0408_0049_00C8L, 0x0108_081C_6082_000CL, 0x0204_0400_8400_2000L,
+            0x280E_0A10_8204_0000L, 0x4000_8820_8810_0021L, 0x6004_2088_0450_0C00L, 0x0062_0242_0210_8200L,
+            0x1308_4002_440C_0480L, 0x0000_0232_1204_0700L, 0xA008_2101_0400_808EL, 0x010C_0404_2080_0800L,
+            0x0000_0202_1020_0108L, 0x0129_0208_0209_20A2L, 0xA500_0402_0610_5610L, 0x9028_4100_8084_2001L,
+            0x2050_0008_5090_8080L, 0x4124_4012_0C04_0400L, 0x80D0_0002_0091_1100L, 0x4048_0C20_8202_4022L,
+            0x1102_0104_0094_0000L, 0x0441_0086_1000_8406L, 0x1210_4042_0210_4500L, 0x0180_8012_1201_0949L,
+            0x6004_1010_4031_0140L, 0x4250_1011_0841_1120L, 0x0808_0800_2402_2820L, 0x0208_0800_4022_0020L,
+            0x0000_4041_4C01_0040L, 0x0810_0210_2088_0401L, 0x0011_2040_2518_0800L, 0x0489_0200_A420_A400L,
+            0xA010_0820_8228_E205L, 0x1028_0808_0A04_010AL, 0x0400_4022_0050_1400L, 0x0200_2005_0008_0108L,
+            0x8001_0104_0002_0020L, 0x3610_0208_0814_8090L, 0x3112_3884_0082_1201L, 0x0102_1092_2042_0200L,
+            0x9002_1042_A000_0808L, 0x2020_4104_2002_1160L, 0x1000_8400_4801_0100L, 0x0800_8040_1040_0200L,
+            0x0001_140C_B200_0401L, 0x0010_2000_8020_0900L, 0x9225_2104_0416_0900L, 0x0402_1404_0480_0022L,
+            0x0004_0104_4220_2401L, 0x0011_0082_1082_0200L, 0x6000_0104_0104_2010L, 0x0000_0020_8404_0200L,
+            0x0808_0009_1124_0000L, 0x0185_1182_1001_0048L, 0x0420_C401_0204_1000L, 0x2410_0400_8086_0200L,
+            0x0002_028C_8401_2058L, 0x0004_0104_00C2_0810L, 0x0000_0113_0407_0482L, 0x4200_0400_0022_880AL,
+            0x0014_0140_0821_0101L, 0x2000_8120_0481_8200L, 0x8080_0802_0408_3204L, 0x8008_2010_8601_4900L};
+    private static final int[] BISHOP_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final long[][] BISHOP_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+    static {
+        for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+            initTile(tile, ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_ATTACKS);
+            initTile(tile, BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+        }
+    }
+
+    /**
+     * The Default Constructor For Magic Bitboards Which Shouldn't Be Able To Be Initialised
+     */
+    private MagicBitboards(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Gets The Tiles A Rook Attacks
+     * @param tileCoordinate The Tile The Rook Is On
+     * @param occupancy The Bitboard Of All Occupied Tiles
+     * @return The Bitboard Of Attacked Tiles, Including The First Blocker In Each Direction
+     */
+    public static long getRookAttacks(final int tileCoordinate, final long occupancy){
+        return ROOK_ATTACKS[tileCoordinate][(int) (((occupancy & ROOK_MASKS[tileCoordinate]) * ROOK_MAGICS[tileCoordinate]) >>> ROOK_SHIFTS[tileCoordinate])];
+    }
+
+    /**
+     * Gets The Tiles A Bishop Attacks
+     * @param tileCoordinate The Tile The Bishop Is On
+     * @param occupancy The Bitboard Of All Occupied Tiles
+     * @return The Bitboard Of Attacked Tiles, Including The First Blocker In Each Direction
+     */
+    public static long getBishopAttacks(final int tileCoordinate, final long occupancy){
+        return BISHOP_ATTACKS[tileCoordinate][(int) (((occupancy & BISHOP_MASKS[tileCoordinate]) * BISHOP_MAGICS[tileCoordinate]) >>> BISHOP_SHIFTS[tileCoordinate])];
+    }
+
+    /**
+     * Gets The Tiles A Queen Attacks
+     * @param tileCoordinate The Tile The Queen Is On
+     * @param occupancy The Bitboard Of All Occupied Tiles
+     * @return The Bitboard Of Attacked Tiles, Including The First Blocker In Each Direction
+     */
+    public static long getQueenAttacks(final int tileCoordinate, final long occupancy){
+        return getRookAttacks(tileCoordinate, occupancy) | getBishopAttacks(tileCoordinate, occupancy);
+    }
+
+    /**
+     * Initialises The Mask, Shift And Attack Table For One Tile
+     *
+     * Every Subset Of The Mask Is Enumerated Along With The Attacks It Produces And Stored At The Index Its Magic Gives
+     * Throws A Runtime Exception If Two Subsets With Different Attacks Share An Index As The Magic Would Be Wrong
+     *
+     * @param tileCoordinate The Tile To Initialise
+     * @param directions The Row And Column Steps The Piece Slides Along
+     * @param masks The Mask Array To Fill
+     * @param magics The Magic Numbers For Each Tile
+     * @param shifts The Shift Array To Fill
+     * @param attacks The Attack Table Array To Fill
+     */
+    private static void initTile(final int tileCoordinate, final int[][] directions, final long[] masks, final long[] magics,
+                                 final int[] shifts, final long[][] attacks){
+        final long mask = calculateMask(tileCoordinate, directions);
+        final int shift = 64 - Long.bitCount(mask);
+        final long[] table = new long[1 << Long.bitCount(mask)];
+        final boolean[] isFilled = new boolean[table.length];
+
+        //Walk Every Subset Of The Mask Using The Carry Rippler Trick
+        long subset = 0L;
+        do{
+            final int index = (int) ((subset * magics[tileCoordinate]) >>> shift);
+            final long slidingAttacks = calculateSlidingAttacks(tileCoordinate, subset, directions);
+            if(isFilled[index] && table[index] != slidingAttacks){
+                throw new RuntimeException("Invalid Magic Number For Tile " + BoardUtils.getPositionAtCoordinate(tileCoordinate));
+            }
+            table[index] = slidingAttacks;
+            isFilled[index] = true;
+            subset = (subset - mask) & mask;
+        } while(subset != 0);
+
+        masks[tileCoordinate] = mask;
+        shifts[tileCoordinate] = shift;
+        attacks[tileCoordinate] = table;
+    }
+
+    /**
+     * Calculates The Tiles Whose Occupancy Can Block A Slider On A Tile
+     *
+     * The Last Tile In Each Direction Is Left Out As A Piece There Never Blocks Anything Behind It
+     *
+     * @param tileCoordinate The Tile The Slider Is On
+     * @param directions The Row And Column Steps The Piece Slides Along
+     * @return The Blocker Mask
+     */
+    private static long calculateMask(final int tileCoordinate, final int[][] directions){
+        long mask = 0L;
+        for(final int[] direction : directions){
+            int row = tileCoordinate / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = tileCoordinate % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+            while(isOnBoard(row + direction[0], column + direction[1])){
+                mask |= 1L << (row * BoardUtils.NUM_TILES_PER_ROW + column);
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Calculates The Tiles A Slider Attacks By Stepping Along Each Direction Until It Hits A Piece Or The Edge
+     * @param tileCoordinate The Tile The Slider Is On
+     * @param occupancy The Bitboard Of Occupied Tiles
+     * @param directions The Row And Column Steps The Piece Slides Along
+     * @return The Bitboard Of Attacked Tiles
+     */
+    private static long calculateSlidingAttacks(final int tileCoordinate, final long occupancy, final int[][] directions){
+        long attacks = 0L;
+        for(final int[] direction : directions){
+            int row = tileCoordinate / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = tileCoordinate % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+            while(isOnBoard(row, column)){
+                final long tile = 1L << (row * BoardUtils.NUM_TILES_PER_ROW + column);
+                attacks |= tile;
+                if((occupancy & tile) != 0){
+                    break;
+                }
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Gets Whether A Row And Column Are Inside The Board
+     * @param row The Row
+     * @param column The Column
+     * @return If The Row And Column Are On The Board
+     */
+    private static boolean isOnBoard(final int row, final int column){
+        return row >= 0 && row < BoardUtils.NUM_TILES_PER_ROW && column >= 0 && column < BoardUtils.NUM_TILES_PER_ROW;
+    }
+}
@@ -2,6 +2,7 @@ package com.chess.engine.board;
 
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.PieceUtils;
 import com.chess.engine.pieces.Rook;
 
 /**
@@ -13,7 +14,7 @@ public abstract class Move {
     protected final Board board;
     protected Piece movedPiece;
     protected final int destinationCoordinate;
-    protected boolean isFirstMove;
+    protected final boolean isFirstMove;
 
     final static Move NULL_MOVE = new NullMove();
 
@@ -52,9 +53,9 @@ public abstract class Move {
         final int prime = 31;
         int result = 1;
 
-        result = prime * result * this.destinationCoordinate;
+        result = prime * result + this.destinationCoordinate;
         result = prime * result + this.movedPiece.hashCode();
-        result = prime * result * this.movedPiece.getPiecePosition();
+        result = prime * result + this.movedPiece.getPiecePosition();
         return result;
 
     }
@@ -78,9 +79,9 @@ public abstract class Move {
         }
 
         final Move otherMove = (Move) other;
-        return getCurrentCoordinate() == otherMove.getDestinationCoordinate() &&
-                getMovedPiece().equals(otherMove.getMovedPiece()) &&
-                getCurrentCoordinate() == otherMove.getCurrentCoordinate();
+        return getCurrentCoordinate() == otherMove.getCurrentCoordinate() &&
+                getDestinationCoordinate() == otherMove.getDestinationCoordinate() &&
+                getMovedPiece().equals(otherMove.getMovedPiece());
     }
 
     public Board getBoard(){
@@ -138,41 +139,74 @@ public abstract class Move {
     /**
      * Executes The Move
      *
-     * First It Iterates Through All The Current Players Pieces That Weren't Moved And Sets Then On The Board
-     * Then It Places All The Opponents Pieces
-     * Finally It Places The Moved Piece On Its New Tile, Sets The Move Maker And Builds
+     * Starts From A Copy Of The Current Board And Lifts The Moved Piece Off Its Tile
+     * Then It Places The Moved Piece On Its New Tile, Replacing Any Attacked Piece There, Sets The Move Maker And Builds
      *
      * @return The New Board State
      */
     public Board execute() {
-        final Board.Builder builder = new Board.Builder();
-
-        //Go Through All The Current Players Piece That Weren't Moved And Set Them
-        for(final Piece piece : this.board.currentPlayer().getActivePieces()){
-            if(!this.movedPiece.equals(piece)){
-                builder.setPiece(piece);
-            }
-        }
-
-        //Set All The Opponents Pieces
-        for(final  Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()){
-            builder.setPiece(piece);
-        }
-
+        final Board.Builder builder = new Board.Builder(this.board);
 
         //Move The Moved Piece
+        builder.removePiece(getCurrentCoordinate());
         builder.setPiece(this.movedPiece.movePiece(this));
         //Set The Next Person To Make A Move
         builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+        builder.setCastlingRights(calculateCastlingRights());
+        builder.setZobristKey(calculateZobristKey());
         return builder.build();
     }
 
-    public Board undo() {
-        final Board.Builder builder = new Board.Builder();
-        for(final Piece piece : this.board.getAllPieces()){
-            builder.setPiece(piece);
+    /**
+     * Calculates The Zobrist Key Of The Board After This Move From The Key Of The Board Before It
+     *
+     * Moves The Moved Piece From Its Current Tile To The Destination And Removes Any Attacked Piece
+     * Sub Classes That Change More Of The Board Add Their Own Changes On Top
+     *
+     * @return The Updated Key
+     */
+    protected long calculateZobristKey(){
+        long key = calculateTurnKey() ^
+                Zobrist.getPieceKey(this.movedPiece, getCurrentCoordinate()) ^
+                Zobrist.getPieceKey(this.movedPiece, this.destinationCoordinate);
+
+        final Piece attackedPiece = getAttackedPiece();
+        if(attackedPiece != null){
+            key ^= Zobrist.getPieceKey(attackedPiece, attackedPiece.getPiecePosition());
         }
+        return key;
+    }
+
+    /**
+     * Calculates The Part Of The Zobrist Key Change Shared By Every Move
+     *
+     * Flips The Side To Move, Swaps The Castling Rights Key For The Rights Left After Moving From And To These Tiles
+     * And Removes The Old En Passant File
+     *
+     * @return The Key Of The Board Before The Move With Those Changes Applied
+     */
+    protected long calculateTurnKey(){
+        return this.board.getZobristKey() ^
+                Zobrist.getSideKey() ^
+                Zobrist.getCastlingKey(this.board.getCastlingRights()) ^
+                Zobrist.getCastlingKey(calculateCastlingRights()) ^
+                Zobrist.getEnPassantKey(this.board.getEnPassantSquare());
+    }
+
+    /**
+     * Calculates The Castling Rights Left After The Move
+     *
+     * Moving From Or To A Kings Or Rooks Starting Tile Removes The Castles That Depend On That Piece
+     *
+     * @return The Castling Rights Using The BoardUtils Castle Bits
+     */
+    protected int calculateCastlingRights(){
+        return this.board.getCastlingRights() & BoardUtils.CASTLING_RIGHTS_MASK[getCurrentCoordinate()] &
+                BoardUtils.CASTLING_RIGHTS_MASK[this.destinationCoordinate];
+    }
 
+    public Board undo() {
+        final Board.Builder builder = new Board.Builder(this.board);
         builder.setMoveMaker(this.board.currentPlayer().getAlliance());
         return builder.build();
     }
@@ -355,81 +389,118 @@ public abstract class Move {
 
         /**
          * Overriding The Default Execute Function To Execute A New Move
-         * Firstly It Sets All The Other Pieces On The Board For The Current Player Then Opponent Player
+         * Firstly It Copies The Board And Removes The Moving Pawn And The Attacked Pawn, Which Isn't On The Destination
          * Next It Sets And Moved The Relevant Piece
          * @return The Built Board
          */
         @Override
         public Board execute(){
-            final Board.Builder builder = new Board.Builder();
-            for(final Piece piece : this.board.currentPlayer().getActivePieces()){
-                if(!this.movedPiece.equals(piece)){
-                    builder.setPiece(piece);
-                }
-            }
-
-            for(final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()){
-                if(!piece.equals(this.getAttackedPiece())){
-                    builder.setPiece(piece);
-                }
-            }
-
-
+            final Board.Builder builder = new Board.Builder(this.board);
+            builder.removePiece(getCurrentCoordinate());
+            builder.removePiece(this.getAttackedPiece().getPiecePosition());
             builder.setPiece(this.movedPiece.movePiece(this));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setCastlingRights(calculateCastlingRights());
+            //The Attacked Pawn Is Removed From Its Own Tile Rather Than The Destination
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
     }
 
+    /**
+     * A Sub Class Of Move That Decorates A Pawn Move Or Pawn Attack Move Onto The Last Row With A Promotion
+     */
     public static class PawnPromotionMove extends Move {
 
         final Move decoratedMove;
         final Pawn promotedPawn;
+        final Piece.PieceType promotionType;
 
+        /**
+         * Creates A Promotion To A Queen
+         * @param decoratedMove The Pawn Move Onto The Promotion Tile
+         */
         public PawnPromotionMove(final Move decoratedMove){
+            this(decoratedMove, Piece.PieceType.QUEEN);
+        }
+
+        /**
+         * Creates A Promotion
+         * @param decoratedMove The Pawn Move Onto The Promotion Tile
+         * @param promotionType The Type Of Piece The Pawn Becomes
+         */
+        public PawnPromotionMove(final Move decoratedMove, final Piece.PieceType promotionType){
             super(decoratedMove.getBoard(), decoratedMove.getMovedPiece(), decoratedMove.getDestinationCoordinate());
             this.decoratedMove = decoratedMove;
             this.promotedPawn = (Pawn) decoratedMove.getMovedPiece();
+            this.promotionType = promotionType;
         }
 
         @Override
         public int hashCode(){
-            return decoratedMove.hashCode() + (31 * promotedPawn.hashCode());
+            return decoratedMove.hashCode() + (31 * promotedPawn.hashCode()) + this.promotionType.hashCode();
         }
 
         /**
          * Overriding The Move Equals Method To Instead Check If Other Is An Instance Of Pawn PromotionMove Move
+         * With The Same Promotion Piece
          * @param other The Other Object To Compare
          * @return If The Objects Are Equal
          */
         @Override
         public boolean equals(final Object other){
-            if(this == other || other instanceof  PawnPromotionMove && super.equals(other)){
+            if(this == other || other instanceof  PawnPromotionMove && super.equals(other) &&
+                    this.promotionType == ((PawnPromotionMove) other).getPromotionType()){
                 return true;
             }
             return false;
         }
 
+        /**
+         * Gets The Type Of Piece The Pawn Becomes
+         * @return The Promotion Piece Type
+         */
+        public Piece.PieceType getPromotionType(){
+            return this.promotionType;
+        }
 
+        /**
+         * Returns The Move As A String With The Promotion Piece
+         * @return The String For The Move
+         */
         @Override
-        public Board execute(){
-            final Board pawnMovedBoard = this.decoratedMove.execute();
-            final Board.Builder builder = new Board.Builder();
+        public String toString(){
+            return this.decoratedMove.toString() + "=" + this.promotionType.toString();
+        }
 
-            for(final Piece piece : pawnMovedBoard.currentPlayer().getActivePieces()){
-                if(!this.promotedPawn.equals(piece)){
-                    builder.setPiece(piece);
-                }
-            }
+        /**
+         * Gets Whether The Move Is An Attack
+         * @return If The Decorated Pawn Move Is An Attack
+         */
+        @Override
+        public boolean isAttack(){
+            return this.decoratedMove.isAttack();
+        }
 
-            for(final Piece piece : pawnMovedBoard.currentPlayer().getOpponent().getActivePieces()){
-                builder.setPiece(piece);
-            }
 
-            this.promotedPawn.getPromotionPiece().pieceHasMoved();
-            builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
-            builder.setMoveMaker(pawnMovedBoard.currentPlayer().getOpponent().getAlliance());
+        /**
+         * Overriding The Default Execute Function To Execute The Promotion
+         * Firstly It Executes The Decorated Pawn Move
+         * Then It Copies That Board And Replaces The Moved Pawn With The Promotion Piece On The Destination
+         * The Player To Move And Castling Rights Are Carried Over From The Pawn Moved Board As The Promotion Doesn't Change Them
+         * @return The Built Board
+         */
+        @Override
+        public Board execute(){
+            final Board pawnMovedBoard = this.decoratedMove.execute();
+            final Board.Builder builder = new Board.Builder(pawnMovedBoard);
+
+            final Piece promotionPiece = this.promotedPawn.getPromotionPiece(this.promotionType).movePiece(this);
+            builder.setPiece(promotionPiece);
+            builder.setZobristKey(pawnMovedBoard.getZobristKey() ^
+                    Zobrist.getPieceKey(this.promotedPawn, this.destinationCoordinate) ^
+                    Zobrist.getPieceKey(promotionPiece, this.destinationCoordinate));
             return builder.build();
         }
 
@@ -467,31 +538,35 @@ public abstract class Move {
 
         /**
          * Overriding The Default Execute Function To Execute A New Move
-         * Firstly It Sets All The Other Pieces On The Board For The Current Player Then Opponent Player
+         * Firstly It Copies The Board And Lifts The Pawn Off Its Tile
          * Next It Casts The Piece To Be A Pawn And Sets And Moves The Piece
          * Finally As The Pawn Has Jumped 2 Squares It Sets The En Passant For The Pawn Then Changing The Current Player And Building The Board
          * @return The Built Board
          */
         @Override
         public Board execute(){
-            final Board.Builder builder = new Board.Builder();
-            for(final Piece piece : this.board.currentPlayer().getActivePieces()){
-                if(!this.movedPiece.equals(piece)){
-                    builder.setPiece(piece);
-                }
-            }
-            for(final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()){
-                builder.setPiece(piece);
-            }
+            final Board.Builder builder = new Board.Builder(this.board);
+            builder.removePiece(getCurrentCoordinate());
 
             final Pawn movedPawn = (Pawn)this.movedPiece.movePiece(this);
-            movedPawn.pieceHasMoved();
             builder.setPiece(movedPawn);
             builder.setEnPassant(movedPawn);
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setCastlingRights(calculateCastlingRights());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
+        /**
+         * Adds The File Of The Tile The Pawn Jumped Over As The New En Passant File
+         * @return The Updated Key
+         */
+        @Override
+        protected long calculateZobristKey(){
+            return super.calculateZobristKey() ^
+                    Zobrist.getEnPassantKey((getCurrentCoordinate() + this.destinationCoordinate) / 2);
+        }
+
         /**
          * Returns The Move As A String
          * @return The String For The Move
@@ -537,32 +612,37 @@ public abstract class Move {
 
         /**
          * Overriding The Default Execute Function To Execute A New Move
-         * Firstly It Sets All The Current Players Pieces That Aren't Involved In The Move Then Sets All The Opponents Pieces
+         * Firstly It Copies The Board And Lifts The King And Castle Rook Off Their Tiles
          * Next It Sets The Moved Piece
-         * Then Its Creates A New Rook At Its New Post Castled Position
-         * Finally It Changes The Current Player And Builds The Board
+         * Then It Places The Rook At Its New Post Castled Position, Leaving The Original Rook Untouched
+         * Finally It Changes The Current Player, Drops That Sides Castling Rights And Builds The Board
          * @return The Built Board
          */
         @Override
         public Board execute(){
-            final Board.Builder builder = new Board.Builder();
-            for(final Piece piece : this.board.currentPlayer().getActivePieces()){
-                if(!(this.movedPiece == piece) && !(this.castleRook == piece)){
-                    builder.setPiece(piece);
-                }
-            }
-
-            for(final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()){
-                builder.setPiece(piece);
-            }
+            final Board.Builder builder = new Board.Builder(this.board);
+            builder.removePiece(getCurrentCoordinate());
+            builder.removePiece(this.castleRookStart);
 
             builder.setPiece(this.movedPiece.movePiece(this));
-            this.castleRook.pieceHasMoved();
-            builder.setPiece(new Rook(this.castleRookDestination, this.castleRook.getPieceAlliance()));
+            builder.setPiece(PieceUtils.getRook(this.castleRookDestination, this.castleRook.getPieceAlliance(), false));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            builder.setCastlingRights(calculateCastlingRights());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
+        /**
+         * Adds Moving The Castle Rook From Its Start To Its Destination
+         * @return The Updated Key
+         */
+        @Override
+        protected long calculateZobristKey(){
+            return super.calculateZobristKey() ^
+                    Zobrist.getPieceKey(this.castleRook, this.castleRookStart) ^
+                    Zobrist.getPieceKey(this.castleRook, this.castleRookDestination);
+        }
+
         @Override
         public int hashCode(){
             int prime = 31;
@@ -672,6 +752,15 @@ public abstract class Move {
         public int getCurrentCoordinate(){
             return -1;
         }
+
+        /**
+         * Gets The Hash Code Of The Null Move, Which Has No Moved Piece To Hash
+         * @return The Hash Code
+         */
+        @Override
+        public int hashCode(){
+            return this.destinationCoordinate;
+        }
     }
 
     /**
@@ -684,18 +773,69 @@ public abstract class Move {
 
         /**
          * Creates The Move
-         * @param board
-         * @param currentCoordinate
-         * @param destinationCoordinate
-         * @return The Move
+         *
+         * Looks The Move Up In The Current Players Move Index, A Pawn Reaching The Last Row Promotes To A Queen
+         *
+         * @param board The Board The Move Is Made On
+         * @param currentCoordinate The Tile The Piece Moves From
+         * @param destinationCoordinate The Tile The Piece Moves To
+         * @return The Move Or The Null Move If It Isn't Legal
          */
         public static Move createMove(final Board board, final int currentCoordinate, final int destinationCoordinate){
-            for(final Move move : board.getAllLegalMoves()){
-                if(move.getCurrentCoordinate() == currentCoordinate && move.getDestinationCoordinate() == destinationCoordinate){
-                    return move;
-                }
+            final Move move = board.currentPlayer().getMoveIndex().get(currentCoordinate, destinationCoordinate);
+            return move != null ? move : NULL_MOVE;
+        }
+
+        /**
+         * Creates A Move With The Given Promotion, As Used By UCI Moves Such As e7e8n
+         * @param board The Board The Move Is Made On
+         * @param currentCoordinate The Tile The Piece Moves From
+         * @param destinationCoordinate The Tile The Piece Moves To
+         * @param promotionType The Piece A Pawn Promotes To, Or Null For Any Other Move
+         * @return The Move Or The Null Move If It Isn't Legal
+         */
+        public static Move createMove(final Board board, final int currentCoordinate, final int destinationCoordinate,
+                                      final Piece.PieceType promotionType){
+            final Move move = board.currentPlayer().getMoveIndex().get(currentCoordinate, destinationCoordinate, promotionType);
+            return move != null ? move : NULL_MOVE;
+        }
+
+        /**
+         * Creates A Move From Its UCI Long Algebraic Form, Such As e2e4 Or e7e8q
+         * @param board The Board The Move Is Made On
+         * @param uciMove The UCI Move, A From Tile, A To Tile And An Optional Promotion Piece
+         * @return The Move Or The Null Move If It Isn't Legal
+         */
+        public static Move createMove(final Board board, final String uciMove){
+            if(uciMove.length() != 4 && uciMove.length() != 5){
+                throw new RuntimeException("Invalid UCI Move " + uciMove);
+            }
+            final int currentCoordinate = BoardUtils.getCoordinateAtPosition(uciMove.substring(0, 2));
+            final int destinationCoordinate = BoardUtils.getCoordinateAtPosition(uciMove.substring(2, 4));
+            if(uciMove.length() == 4){
+                return createMove(board, currentCoordinate, destinationCoordinate, null);
+            }
+            return createMove(board, currentCoordinate, destinationCoordinate, getPromotionType(uciMove.charAt(4)));
+        }
+
+        /**
+         * Gets The Piece A UCI Promotion Character Stands For
+         * @param promotion The Promotion Character, One Of q, r, b Or n
+         * @return The Promotion Piece Type
+         */
+        private static Piece.PieceType getPromotionType(final char promotion){
+            switch(Character.toLowerCase(promotion)){
+                case 'q':
+                    return Piece.PieceType.QUEEN;
+                case 'r':
+                    return Piece.PieceType.ROOK;
+                case 'b':
+                    return Piece.PieceType.BISHOP;
+                case 'n':
+                    return Piece.PieceType.KNIGHT;
+                default:
+                    throw new RuntimeException("Invalid UCI Promotion Piece " + promotion);
             }
-            return NULL_MOVE;
         }
 
     }
@@ -0,0 +1,229 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Rook;
+
+/**
+ * Encodes Moves As Primitive 16 Bit Values So Hot Paths Can Store Moves In Plain Int Arrays
+ *
+ * Bits 0 To 5 Hold The Tile The Piece Moves From, Bits 6 To 11 The Tile It Moves To And Bits 12 To 15 The Flag
+ * The Flag Says What Kind Of Move It Is, Bit 2 Of The Flag Is Set For Captures And Bit 3 For Promotions
+ * For Promotions The Low Two Bits Of The Flag Pick The Promotion Piece
+ * The Encoded Value 0 Would Move A Piece Onto Its Own Tile So It Is Used As The Null Move
+ */
+public final class MoveEncoding {
+
+    public static final int NULL_MOVE = 0;
+
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+    public static final int PROMOTION_CAPTURE = PROMOTION | CAPTURE;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int TO_SHIFT = 6;
+    private static final int FLAG_SHIFT = 12;
+
+    private static final Piece.PieceType[] PROMOTION_TYPES = {
+            Piece.PieceType.KNIGHT, Piece.PieceType.BISHOP, Piece.PieceType.ROOK, Piece.PieceType.QUEEN};
+
+    /**
+     * The Default Constructor For Move Encoding Which Shouldn't Be Able To Be Initialised
+     */
+    private MoveEncoding(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Encodes A Move
+     * @param from The Tile The Piece Moves From
+     * @param to The Tile The Piece Moves To
+     * @param flag The Kind Of Move
+     * @return The Encoded Move
+     */
+    public static int encode(final int from, final int to, final int flag){
+        return from | (to << TO_SHIFT) | (flag << FLAG_SHIFT);
+    }
+
+    /**
+     * Encodes A Pawn Promotion
+     * @param from The Tile The Pawn Moves From
+     * @param to The Tile The Pawn Promotes On
+     * @param promotionType The Type Of Piece The Pawn Becomes, A Knight, Bishop, Rook Or Queen
+     * @param isCapture If The Promotion Also Captures A Piece
+     * @return The Encoded Move
+     */
+    public static int encodePromotion(final int from, final int to, final Piece.PieceType promotionType, final boolean isCapture){
+        return encode(from, to, getPromotionFlag(promotionType, isCapture));
+    }
+
+    /**
+     * Gets The Flag For A Pawn Promotion
+     * @param promotionType The Type Of Piece The Pawn Becomes, A Knight, Bishop, Rook Or Queen
+     * @param isCapture If The Promotion Also Captures A Piece
+     * @return The Promotion Flag
+     */
+    public static int getPromotionFlag(final Piece.PieceType promotionType, final boolean isCapture){
+        return (isCapture ? PROMOTION_CAPTURE : PROMOTION) | getPromotionIndex(promotionType);
+    }
+
+    /**
+     * Gets The Tile The Piece Moves From
+     * @param move The Encoded Move
+     * @return The From Tile
+     */
+    public static int getFrom(final int move){
+        return move & SQUARE_MASK;
+    }
+
+    /**
+     * Gets The Tile The Piece Moves To
+     * @param move The Encoded Move
+     * @return The Destination Tile
+     */
+    public static int getTo(final int move){
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    /**
+     * Gets The Flag Saying What Kind Of Move It Is
+     * @param move The Encoded Move
+     * @return The Move Flag
+     */
+    public static int getFlag(final int move){
+        return move >>> FLAG_SHIFT;
+    }
+
+    /**
+     * Gets Whether The Move Captures A Piece, Including En Passant And Promotion Captures
+     * @param move The Encoded Move
+     * @return If The Move Is A Capture
+     */
+    public static boolean isCapture(final int move){
+        return (getFlag(move) & CAPTURE) != 0;
+    }
+
+    /**
+     * Gets Whether The Move Is A Pawn Promotion
+     * @param move The Encoded Move
+     * @return If The Move Is A Promotion
+     */
+    public static boolean isPromotion(final int move){
+        return (getFlag(move) & PROMOTION) != 0;
+    }
+
+    /**
+     * Gets Whether The Move Is A Castle
+     * @param move The Encoded Move
+     * @return If The Move Is A King Or Queen Side Castle
+     */
+    public static boolean isCastle(final int move){
+        final int flag = getFlag(move);
+        return flag == KING_CASTLE || flag == QUEEN_CASTLE;
+    }
+
+    /**
+     * Gets The Type Of Piece A Promotion Creates
+     * @param move The Encoded Move
+     * @return The Promotion Piece Type Or Null If The Move Is Not A Promotion
+     */
+    public static Piece.PieceType getPromotionType(final int move){
+        return isPromotion(move) ? PROMOTION_TYPES[getFlag(move) & 3] : null;
+    }
+
+    /**
+     * Encodes One Of The Move Classes
+     * @param move The Move To Encode
+     * @return The Encoded Move Or NULL_MOVE For The Null Move
+     */
+    public static int fromMove(final Move move){
+        if(move instanceof Move.NullMove){
+            return NULL_MOVE;
+        }
+
+        final int from = move.getCurrentCoordinate();
+        final int to = move.getDestinationCoordinate();
+
+        if(move instanceof Move.PawnPromotionMove){
+            return encodePromotion(from, to, ((Move.PawnPromotionMove) move).getPromotionType(), move.getAttackedPiece() != null);
+        } else if(move.isCastlingMove()){
+            return encode(from, to, move instanceof Move.KingSideCastleMove ? KING_CASTLE : QUEEN_CASTLE);
+        } else if(move instanceof Move.PawnEnPassantMove){
+            return encode(from, to, EN_PASSANT);
+        } else if(move instanceof Move.PawnJump){
+            return encode(from, to, DOUBLE_PAWN_PUSH);
+        } else if(move.isAttack()){
+            return encode(from, to, CAPTURE);
+        }
+        return encode(from, to, QUIET);
+    }
+
+    /**
+     * Creates The Matching Move Class For An Encoded Move On A Board
+     *
+     * The Move Must Belong To The Player To Move On That Board, It Is Not Checked For Legality
+     *
+     * @param board The Board The Move Is Made On
+     * @param move The Encoded Move
+     * @return The Move Object Or The Null Move For NULL_MOVE
+     */
+    public static Move toMove(final Board board, final int move){
+        if(move == NULL_MOVE){
+            return Move.NULL_MOVE;
+        }
+
+        final int from = getFrom(move);
+        final int to = getTo(move);
+        final Piece movedPiece = board.getPiece(from);
+
+        switch(getFlag(move)){
+            case QUIET:
+                return movedPiece.getPieceType() == Piece.PieceType.PAWN ?
+                        new Move.PawnMove(board, movedPiece, to) : new Move.MajorMove(board, movedPiece, to);
+            case DOUBLE_PAWN_PUSH:
+                return new Move.PawnJump(board, movedPiece, to);
+            case KING_CASTLE:
+                return new Move.KingSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(to + 1), to + 1, to - 1);
+            case QUEEN_CASTLE:
+                return new Move.QueenSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(to - 2), to - 2, to + 1);
+            case CAPTURE:
+                return movedPiece.getPieceType() == Piece.PieceType.PAWN ?
+                        new Move.PawnAttackMove(board, movedPiece, to, board.getPiece(to)) :
+                        new Move.AttackMove(board, movedPiece, to, board.getPiece(to));
+            case EN_PASSANT:
+                return new Move.PawnEnPassantMove(board, movedPiece, to, board.getEnPassantPawn());
+            default:
+                final Move pawnMove = isCapture(move) ? new Move.PawnAttackMove(board, movedPiece, to, board.getPiece(to)) :
+                        new Move.PawnMove(board, movedPiece, to);
+                return new Move.PawnPromotionMove(pawnMove, getPromotionType(move));
+        }
+    }
+
+    /**
+     * Gets The Move In The Long Algebraic Form Used By UCI, Such As e2e4 Or e7e8q
+     * @param move The Encoded Move
+     * @return The UCI String For The Move
+     */
+    public static String toUCIString(final int move){
+        final String squares = BoardUtils.getPositionAtCoordinate(getFrom(move)) + BoardUtils.getPositionAtCoordinate(getTo(move));
+        return isPromotion(move) ? squares + getPromotionType(move).toString().toLowerCase() : squares;
+    }
+
+    /**
+     * Gets The Index Of A Promotion Piece Type Within The Promotion Flags
+     * @param promotionType The Promotion Piece Type
+     * @return The Index Stored In The Low Two Bits Of The Flag
+     */
+    private static int getPromotionIndex(final Piece.PieceType promotionType){
+        for(int i = 0; i < PROMOTION_TYPES.length; i++){
+            if(PROMOTION_TYPES[i] == promotionType){
+                return i;
+            }
+        }
+        throw new RuntimeException(promotionType + " Is Not A Valid Promotion Piece");
+    }
+}
@@ -0,0 +1,530 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece;
+
+/**
+ * Generates Encoded Pseudo Legal Moves Straight From A Positions Bitboards
+ *
+ * Nothing Is Allocated, The Moves Are Written Into A MoveList The Caller Owns And Checked With A LegalMoveFilter Afterwards
+ */
+public final class MoveGenerator {
+
+    //More Than The Most Moves Any Chess Position Has
+    public static final int MAX_MOVES = 256;
+
+    //For Each Alliance The Row Its Pawns Promote On
+    private static final long[] PROMOTION_ROWS = {0xFFL, 0xFFL << 56};
+
+    /**
+     * The Default Constructor For Move Generator Which Shouldn't Be Able To Be Initialised
+     */
+    private MoveGenerator(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Generates The Legal Moves Of A Player
+     *
+     * In Check Only The Evasions Are Generated, Otherwise Every Pseudo Legal Move
+     * The Moves Are Then Filtered In Place So Only The Legal Ones Are Left
+     *
+     * @param position The Position To Generate On
+     * @param alliance The Alliance Of The Player
+     * @param moves The List To Add The Encoded Moves To
+     */
+    public static void generateLegalMoves(final Position position, final Alliance alliance, final MoveList moves){
+        final LegalMoveFilter filter = new LegalMoveFilter(position, alliance);
+        final int start = moves.size();
+        if(filter.isInCheck()){
+            generateEvasions(position, alliance, filter.getCheckers(), moves);
+        } else {
+            generateMoves(position, alliance, moves);
+        }
+
+        int legal = start;
+        for(int i = start; i < moves.size(); i++){
+            final int move = moves.get(i);
+            if(filter.isLegal(move)){
+                moves.set(legal++, move);
+            }
+        }
+        moves.truncate(legal);
+    }
+
+    /**
+     * Works Out Whether The Player To Move Is Checkmated, Stalemated Or Can Play On
+     *
+     * Stops At The First Legal Move Found, Trying The King First Then The Other Pieces Then The Pawns
+     * Castles Are Never Needed, If Castling Is Legal So Is The Kings Step Towards The Rook
+     *
+     * @param position The Position To Check
+     * @return The Status Of The Game
+     */
+    public static GameStatus calculateGameStatus(final Position position){
+        final Alliance alliance = position.getNextMoveMaker();
+        final LegalMoveFilter filter = new LegalMoveFilter(position, alliance);
+        final MoveList moves = new MoveList();
+
+        if(filter.isInCheck()){
+            generateEvasions(position, alliance, filter.getCheckers(), moves);
+            return hasLegalMove(filter, moves) ? GameStatus.ONGOING : GameStatus.CHECKMATE;
+        }
+
+        final long ownOccupancy = position.getOccupancy(alliance);
+        final long opponentOccupancy = position.getOccupancy() & ~ownOccupancy;
+
+        generateKingMoves(position, moves, alliance, -1L, ~ownOccupancy, opponentOccupancy);
+        if(hasLegalMove(filter, moves)){
+            return GameStatus.ONGOING;
+        }
+        moves.clear();
+        generatePieceMoves(position, moves, alliance, -1L, ~ownOccupancy, opponentOccupancy);
+        if(hasLegalMove(filter, moves)){
+            return GameStatus.ONGOING;
+        }
+        moves.clear();
+        generatePawnMoves(position, moves, alliance, -1L, -1L, opponentOccupancy, true);
+        return hasLegalMove(filter, moves) ? GameStatus.ONGOING : GameStatus.STALEMATE;
+    }
+
+    /**
+     * Gets Whether Any Of The Generated Moves Is Legal
+     * @param filter The Legal Move Filter For The Player
+     * @param moves The Pseudo Legal Moves
+     * @return If At Least One Move Is Legal
+     */
+    private static boolean hasLegalMove(final LegalMoveFilter filter, final MoveList moves){
+        for(int i = 0; i < moves.size(); i++){
+            if(filter.isLegal(moves.get(i))){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generates Every Pseudo Legal Move Of A Player, Including Castles
+     * @param position The Position To Generate On
+     * @param alliance The Alliance Of The Player
+     * @param moves The List To Add The Encoded Moves To
+     */
+    public static void generateMoves(final Position position, final Alliance alliance, final MoveList moves){
+        final long ownOccupancy = position.getOccupancy(alliance);
+        final long opponentOccupancy = position.getOccupancy() & ~ownOccupancy;
+
+        generatePawnMoves(position, moves, alliance, -1L, -1L, opponentOccupancy, true);
+        generatePieceMoves(position, moves, alliance, -1L, ~ownOccupancy, opponentOccupancy);
+        generateKingMoves(position, moves, alliance, -1L, ~ownOccupancy, opponentOccupancy);
+        generateCastles(position, moves, alliance);
+    }
+
+    /**
+     * Generates The Pseudo Legal Moves Of The Pieces On Some Tiles, Passing Each One To A Sink
+     *
+     * Castles Are Left Out, They Are Generated For The Player Rather Than For A Single Piece
+     *
+     * @param position The Position To Generate On
+     * @param alliance The Alliance Of The Pieces
+     * @param fromTiles The Tiles Of The Pieces To Move
+     * @param sink The Sink To Pass The Moves To
+     */
+    public static void generateMoves(final Position position, final Alliance alliance, final long fromTiles, final MoveSink sink){
+        final long ownOccupancy = position.getOccupancy(alliance);
+        final long opponentOccupancy = position.getOccupancy() & ~ownOccupancy;
+
+        generatePawnMoves(position, sink, alliance, fromTiles, -1L, opponentOccupancy, true);
+        generatePieceMoves(position, sink, alliance, fromTiles, ~ownOccupancy, opponentOccupancy);
+        generateKingMoves(position, sink, alliance, fromTiles, ~ownOccupancy, opponentOccupancy);
+    }
+
+    /**
+     * Generates Only The Captures And Promotions Of The Player To Move
+     *
+     * Used By Quiescence Search And Exchange Evaluation Which Never Look At Quiet Moves
+     *
+     * @param position The Position To Generate On
+     * @param moves The List To Add The Encoded Moves To
+     */
+    public static void generateCaptures(final Position position, final MoveList moves){
+        generateCaptures(position, position.getNextMoveMaker(), -1L, moves);
+    }
+
+    /**
+     * Generates Only The Captures And Promotions Of The Pieces On Some Tiles, Passing Each One To A Sink
+     * @param position The Position To Generate On
+     * @param alliance The Alliance Of The Pieces
+     * @param fromTiles The Tiles Of The Pieces To Move
+     * @param sink The Sink To Pass The Moves To
+     */
+    public static void generateCaptures(final Position position, final Alliance alliance, final long fromTiles, final MoveSink sink){
+        final long opponentOccupancy = position.getOccupancy() & ~position.getOccupancy(alliance);
+
+        //Only Pushes Onto The Promotion Row Count
+        generatePawnMoves(position, sink, alliance, fromTiles, PROMOTION_ROWS[alliance.ordinal()], opponentOccupancy, true);
+        generatePieceMoves(position, sink, alliance, fromTiles, opponentOccupancy, opponentOccupancy);
+        generateKingMoves(position, sink, alliance, fromTiles, opponentOccupancy, opponentOccupancy);
+    }
+
+    /**
+     * Generates Only The Quiet Moves Of The Player To Move, Everything generateCaptures Leaves Out
+     *
+     * Pushes Onto The Promotion Row Are Promotions So They Come From generateCaptures Instead, Castles Are Included
+     *
+     * @param position The Position To Generate On
+     * @param moves The List To Add The Encoded Moves To
+     */
+    public static void generateQuietMoves(final Position position, final MoveList moves){
+        final Alliance alliance = position.getNextMoveMaker();
+        final long emptyTiles = ~position.getOccupancy();
+
+        generatePawnMoves(position, moves, alliance, -1L, emptyTiles & ~PROMOTION_ROWS[alliance.ordinal()], 0L, false);
+        generatePieceMoves(position, moves, alliance, -1L, emptyTiles, 0L);
+        generateKingMoves(position, moves, alliance, -1L, emptyTiles, 0L);
+        generateCastles(position, moves, alliance);
+    }
+
+    /**
+     * Gets Whether An Encoded Move Is One The Player To Move Could Generate, Without Generating Any Other Moves
+     *
+     * Used For Moves Remembered From Other Positions Such As Hash And Killer Moves
+     * The Moving Piece, Its Tiles And The Flag Are All Checked Against The Position
+     * A Pseudo Legal Move Still Needs The LegalMoveFilter Before It Can Be Made
+     *
+     * @param position The Position To Check On
+     * @param move The Encoded Move
+     * @return If The Move Would Be Generated In This Position
+     */
+    public static boolean isPseudoLegal(final Position position, final int move){
+        final int flag = MoveEncoding.getFlag(move);
+        //Flags Between En Passant And The Promotions Are Never Used
+        if(move == MoveEncoding.NULL_MOVE || (flag > MoveEncoding.EN_PASSANT && !MoveEncoding.isPromotion(move))){
+            return false;
+        }
+        final Alliance alliance = position.getNextMoveMaker();
+        final int from = MoveEncoding.getFrom(move);
+        final int to = MoveEncoding.getTo(move);
+        final long ownOccupancy = position.getOccupancy(alliance);
+        if((ownOccupancy & (1L << from)) == 0 || (ownOccupancy & (1L << to)) != 0){
+            return false;
+        }
+
+        final long occupancy = position.getOccupancy();
+        final long opponentOccupancy = occupancy & ~ownOccupancy;
+        final Piece.PieceType pieceType = getPieceType(position, alliance, from);
+
+        if(pieceType == Piece.PieceType.PAWN){
+            return isPseudoLegalPawnMove(position, alliance, move, occupancy, opponentOccupancy);
+        }
+        if(MoveEncoding.isCastle(move)){
+            final boolean kingSide = flag == MoveEncoding.KING_CASTLE;
+            final int kingTile = alliance == Alliance.WHITE ? 60 : 4;
+            return pieceType == Piece.PieceType.KING && from == kingTile && to == kingTile + (kingSide ? 2 : -2) &&
+                    canCastle(position, alliance, kingSide);
+        }
+        if(flag != MoveEncoding.QUIET && flag != MoveEncoding.CAPTURE){
+            return false;
+        }
+        //The Flag Has To Agree With What Is On The Destination
+        if((flag == MoveEncoding.CAPTURE) != ((opponentOccupancy & (1L << to)) != 0)){
+            return false;
+        }
+
+        final long attacks;
+        switch(pieceType){
+            case KNIGHT:
+                attacks = BoardUtils.KNIGHT_ATTACKS[from];
+                break;
+            case BISHOP:
+                attacks = MagicBitboards.getBishopAttacks(from, occupancy);
+                break;
+            case ROOK:
+                attacks = MagicBitboards.getRookAttacks(from, occupancy);
+                break;
+            case QUEEN:
+                attacks = MagicBitboards.getQueenAttacks(from, occupancy);
+                break;
+            default:
+                attacks = BoardUtils.KING_ATTACKS[from];
+                break;
+        }
+        return (attacks & (1L << to)) != 0;
+    }
+
+    /**
+     * Gets Whether An Encoded Pawn Move Is One The Player To Move Could Generate
+     * @param position The Position To Check On
+     * @param alliance The Alliance Of The Pawn
+     * @param move The Encoded Move
+     * @param occupancy The Tiles Holding Any Piece
+     * @param opponentOccupancy The Tiles Holding Opponents Pieces
+     * @return If The Pawn Move Would Be Generated In This Position
+     */
+    private static boolean isPseudoLegalPawnMove(final Position position, final Alliance alliance, final int move,
+                                                 final long occupancy, final long opponentOccupancy){
+        final int from = MoveEncoding.getFrom(move);
+        final int to = MoveEncoding.getTo(move);
+        final int flag = MoveEncoding.getFlag(move);
+        final int push = BoardUtils.NUM_TILES_PER_ROW * alliance.getDirection();
+        final long attacks = BoardUtils.PAWN_ATTACKS[alliance.ordinal()][from];
+
+        if(flag == MoveEncoding.EN_PASSANT){
+            return to == position.getEnPassantSquare() && (attacks & (1L << to)) != 0;
+        }
+        //Every Move Onto The Promotion Row Has To Be A Promotion And No Other Move Can Be
+        if(MoveEncoding.isPromotion(move) != ((PROMOTION_ROWS[alliance.ordinal()] & (1L << to)) != 0) ||
+                MoveEncoding.isCastle(move)){
+            return false;
+        }
+        if(MoveEncoding.isCapture(move)){
+            return (attacks & opponentOccupancy & (1L << to)) != 0;
+        }
+        if(flag == MoveEncoding.DOUBLE_PAWN_PUSH){
+            return alliance.isPawnStartingSquare(from) && to == from + 2 * push &&
+                    (occupancy & ((1L << (from + push)) | (1L << to))) == 0;
+        }
+        return to == from + push && (occupancy & (1L << to)) == 0;
+    }
+
+    /**
+     * Gets The Type Of A Players Piece On A Tile
+     * @param position The Position To Look On
+     * @param alliance The Alliance Of The Piece
+     * @param tileCoordinate The Tile Holding One Of The Players Pieces
+     * @return The Piece Type
+     */
+    private static Piece.PieceType getPieceType(final Position position, final Alliance alliance, final int tileCoordinate){
+        for(final Piece.PieceType pieceType : Piece.PieceType.values()){
+            if((position.getPieceBitboard(alliance, pieceType) & (1L << tileCoordinate)) != 0){
+                return pieceType;
+            }
+        }
+        throw new RuntimeException("No Piece On Tile " + tileCoordinate);
+    }
+
+    /**
+     * Generates The Moves That Can Get The Player To Move Out Of Check
+     *
+     * The King Can Step To Any Tile Not Holding One Of Its Own Pieces
+     * In Double Check Nothing Else Can Help, Otherwise The Other Pieces Can Only Take The Checker Or Block Between It And The King
+     * En Passant Is Included When It Takes The Checking Pawn Or Lands Between The Checker And The King
+     * The Moves Are Pseudo Legal, So Pinned Pieces And King Moves Into Attacked Tiles Still Need Filtering
+     *
+     * @param position The Position To Generate On
+     * @param alliance The Alliance Of The Player In Check
+     * @param checkers The Opponents Pieces Giving Check
+     * @param moves The List To Add The Encoded Moves To
+     */
+    public static void generateEvasions(final Position position, final Alliance alliance, final long checkers, final MoveList moves){
+        final long ownOccupancy = position.getOccupancy(alliance);
+        final long opponentOccupancy = position.getOccupancy() & ~ownOccupancy;
+        final int kingTile = Long.numberOfTrailingZeros(position.getPieceBitboard(alliance, Piece.PieceType.KING));
+
+        generateKingMoves(position, moves, alliance, -1L, ~ownOccupancy, opponentOccupancy);
+
+        //In Double Check Only The King Can Move
+        if(Long.bitCount(checkers) > 1){
+            return;
+        }
+
+        final long blockingTiles = BoardUtils.BETWEEN[kingTile][Long.numberOfTrailingZeros(checkers)];
+
+        //En Passant Only Helps If The Pawn That Jumped Is The Checker Or The Capture Lands In The Way
+        final int enPassantSquare = position.getEnPassantSquare();
+        final boolean enPassantEvades = enPassantSquare != -1 &&
+                (((1L << (enPassantSquare - BoardUtils.NUM_TILES_PER_ROW * alliance.getDirection())) & checkers) != 0 ||
+                ((1L << enPassantSquare) & blockingTiles) != 0);
+
+        generatePawnMoves(position, moves, alliance, -1L, blockingTiles, checkers, enPassantEvades);
+        generatePieceMoves(position, moves, alliance, -1L, checkers | blockingTiles, opponentOccupancy);
+    }
+
+    /**
+     * Generates The Pawn Moves Landing On The Given Tiles
+     *
+     * Single And Double Pushes Need Every Tile They Move Through To Be Empty
+     * Pushes And Captures Onto The Promotion Row Are Written As A Promotion To Each Of The Four Pieces
+     *
+     * @param position The Position To Generate On
+     * @param moves The Sink To Pass The Moves To
+     * @param alliance The Alliance Of The Pawns
+     * @param fromTiles The Tiles Of The Pawns To Move
+     * @param pushTargets The Tiles A Push May End On
+     * @param captureTargets The Tiles A Capture May End On
+     * @param includeEnPassant If En Passant Captures Should Be Generated, Only Ever For The Player To Move
+     */
+    private static void generatePawnMoves(final Position position, final MoveSink moves, final Alliance alliance,
+                                          final long fromTiles, final long pushTargets, final long captureTargets, final boolean includeEnPassant){
+        final long occupancy = position.getOccupancy();
+        final long promotionRow = PROMOTION_ROWS[alliance.ordinal()];
+        final int push = BoardUtils.NUM_TILES_PER_ROW * alliance.getDirection();
+        final long pawnBitboard = position.getPieceBitboard(alliance, Piece.PieceType.PAWN);
+
+        long pawns = pawnBitboard & fromTiles;
+        while(pawns != 0){
+            final int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+
+            final int pushTo = from + push;
+            if(((1L << pushTo) & occupancy) == 0){
+                if(((1L << pushTo) & pushTargets) != 0){
+                    if(((1L << pushTo) & promotionRow) != 0){
+                        addPromotions(moves, from, pushTo, false);
+                    } else {
+                        moves.accept(from, pushTo, MoveEncoding.QUIET);
+                    }
+                }
+                final int jumpTo = pushTo + push;
+                if(alliance.isPawnStartingSquare(from) && ((1L << jumpTo) & pushTargets & ~occupancy) != 0){
+                    moves.accept(from, jumpTo, MoveEncoding.DOUBLE_PAWN_PUSH);
+                }
+            }
+
+            long targets = BoardUtils.PAWN_ATTACKS[alliance.ordinal()][from] & captureTargets;
+            while(targets != 0){
+                final int to = Long.numberOfTrailingZeros(targets);
+                targets &= targets - 1;
+                if(((1L << to) & promotionRow) != 0){
+                    addPromotions(moves, from, to, true);
+                } else {
+                    moves.accept(from, to, MoveEncoding.CAPTURE);
+                }
+            }
+        }
+
+        //En Passant, Found By Looking Back From The En Passant Tile As An Opponents Pawn
+        final int enPassantSquare = position.getEnPassantSquare();
+        if(includeEnPassant && enPassantSquare != -1 && alliance == position.getNextMoveMaker()){
+            final Alliance opponentAlliance = alliance == Alliance.WHITE ? Alliance.BLACK : Alliance.WHITE;
+            long capturers = BoardUtils.PAWN_ATTACKS[opponentAlliance.ordinal()][enPassantSquare] & pawnBitboard & fromTiles;
+            while(capturers != 0){
+                final int from = Long.numberOfTrailingZeros(capturers);
+                capturers &= capturers - 1;
+                moves.accept(from, enPassantSquare, MoveEncoding.EN_PASSANT);
+            }
+        }
+    }
+
+    /**
+     * Adds A Pawn Promotion To Each Of The Four Pieces, The Queen First As It Is Almost Always The Best
+     * @param moves The Sink To Pass The Moves To
+     * @param from The Tile The Pawn Moves From
+     * @param to The Tile The Pawn Promotes On
+     * @param isCapture If The Promotion Also Captures A Piece
+     */
+    private static void addPromotions(final MoveSink moves, final int from, final int to, final boolean isCapture){
+        moves.accept(from, to, MoveEncoding.getPromotionFlag(Piece.PieceType.QUEEN, isCapture));
+        moves.accept(from, to, MoveEncoding.getPromotionFlag(Piece.PieceType.ROOK, isCapture));
+        moves.accept(from, to, MoveEncoding.getPromotionFlag(Piece.PieceType.BISHOP, isCapture));
+        moves.accept(from, to, MoveEncoding.getPromotionFlag(Piece.PieceType.KNIGHT, isCapture));
+    }
+
+    /**
+     * Generates The Knight, Bishop, Rook And Queen Moves Landing On The Given Tiles
+     * @param position The Position To Generate On
+     * @param moves The Sink To Pass The Moves To
+     * @param alliance The Alliance Of The Pieces
+     * @param fromTiles The Tiles Of The Pieces To Move
+     * @param targets The Tiles A Move May End On
+     * @param opponentOccupancy The Tiles Holding Opponents Pieces
+     */
+    private static void generatePieceMoves(final Position position, final MoveSink moves, final Alliance alliance,
+                                           final long fromTiles, final long targets, final long opponentOccupancy){
+        final long occupancy = position.getOccupancy();
+
+        long knights = position.getPieceBitboard(alliance, Piece.PieceType.KNIGHT) & fromTiles;
+        while(knights != 0){
+            final int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            addMoves(moves, from, BoardUtils.KNIGHT_ATTACKS[from] & targets, opponentOccupancy);
+        }
+
+        long diagonalSliders = (position.getPieceBitboard(alliance, Piece.PieceType.BISHOP) |
+                position.getPieceBitboard(alliance, Piece.PieceType.QUEEN)) & fromTiles;
+        while(diagonalSliders != 0){
+            final int from = Long.numberOfTrailingZeros(diagonalSliders);
+            diagonalSliders &= diagonalSliders - 1;
+            addMoves(moves, from, MagicBitboards.getBishopAttacks(from, occupancy) & targets, opponentOccupancy);
+        }
+
+        long straightSliders = (position.getPieceBitboard(alliance, Piece.PieceType.ROOK) |
+                position.getPieceBitboard(alliance, Piece.PieceType.QUEEN)) & fromTiles;
+        while(straightSliders != 0){
+            final int from = Long.numberOfTrailingZeros(straightSliders);
+            straightSliders &= straightSliders - 1;
+            addMoves(moves, from, MagicBitboards.getRookAttacks(from, occupancy) & targets, opponentOccupancy);
+        }
+    }
+
+    /**
+     * Generates The King Moves Landing On The Given Tiles, Not Including Castles
+     * @param position The Position To Generate On
+     * @param moves The Sink To Pass The Moves To
+     * @param alliance The Alliance Of The King
+     * @param fromTiles The Tiles The King May Move From
+     * @param targets The Tiles A Move May End On
+     * @param opponentOccupancy The Tiles Holding Opponents Pieces
+     */
+    private static void generateKingMoves(final Position position, final MoveSink moves, final Alliance alliance,
+                                          final long fromTiles, final long targets, final long opponentOccupancy){
+        final long king = position.getPieceBitboard(alliance, Piece.PieceType.KING) & fromTiles;
+        if(king != 0){
+            final int from = Long.numberOfTrailingZeros(king);
+            addMoves(moves, from, BoardUtils.KING_ATTACKS[from] & targets, opponentOccupancy);
+        }
+    }
+
+    /**
+     * Generates The Castles Still Allowed By The Castling Rights Where The Tiles Between King And Rook Are Empty
+     *
+     * Whether The King Is In Check Or Passes Over An Attacked Tile Is Left To The LegalMoveFilter
+     *
+     * @param position The Position To Generate On
+     * @param moves The Sink To Pass The Moves To
+     * @param alliance The Alliance Castling
+     */
+    private static void generateCastles(final Position position, final MoveSink moves, final Alliance alliance){
+        final int kingTile = alliance == Alliance.WHITE ? 60 : 4;
+        if(canCastle(position, alliance, true)){
+            moves.accept(kingTile, kingTile + 2, MoveEncoding.KING_CASTLE);
+        }
+        if(canCastle(position, alliance, false)){
+            moves.accept(kingTile, kingTile - 2, MoveEncoding.QUEEN_CASTLE);
+        }
+    }
+
+    /**
+     * Gets Whether The Castling Rights Still Allow A Castle, The King And Rook Are On Their Starting Tiles And The Tiles Between Them Are Empty
+     * @param position The Position To Check On
+     * @param alliance The Alliance Castling
+     * @param kingSide If It Is The King Side Castle, Else The Queen Side
+     * @return If The Castle Is Pseudo Legal
+     */
+    private static boolean canCastle(final Position position, final Alliance alliance, final boolean kingSide){
+        final boolean white = alliance == Alliance.WHITE;
+        final int kingTile = white ? 60 : 4;
+        final int castle = kingSide ?
+                (white ? BoardUtils.WHITE_KING_SIDE_CASTLE : BoardUtils.BLACK_KING_SIDE_CASTLE) :
+                (white ? BoardUtils.WHITE_QUEEN_SIDE_CASTLE : BoardUtils.BLACK_QUEEN_SIDE_CASTLE);
+        final int rookTile = kingSide ? kingTile + 3 : kingTile - 4;
+        final long betweenTiles = kingSide ? 0x3L << (kingTile + 1) : 0x7L << (kingTile - 3);
+        return (position.getCastlingRights() & castle) != 0 && (position.getOccupancy() & betweenTiles) == 0 &&
+                (position.getPieceBitboard(alliance, Piece.PieceType.KING) & (1L << kingTile)) != 0 &&
+                (position.getPieceBitboard(alliance, Piece.PieceType.ROOK) & (1L << rookTile)) != 0;
+    }
+
+    /**
+     * Adds A Move From One Tile To Each Of The Target Tiles, As A Capture When The Target Holds An Opponents Piece
+     * @param moves The Sink To Pass The Moves To
+     * @param from The Tile The Moving Piece Is On
+     * @param targets The Tiles It Can Move To
+     * @param opponentOccupancy The Tiles Holding Opponents Pieces
+     */
+    private static void addMoves(final MoveSink moves, final int from, long targets, final long opponentOccupancy){
+        while(targets != 0){
+            final int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            moves.accept(from, to, (opponentOccupancy & (1L << to)) != 0 ? MoveEncoding.CAPTURE : MoveEncoding.QUIET);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+
+import java.util.Collection;
+
+/**
+ * A Lookup Table Of A Positions Legal Moves Keyed By Their From Tile, To Tile And Promotion Piece
+ *
+ * Built Once From A Players Legal Moves So Finding The Move For A Users Or A UCI Input, Or Checking A Move Is Legal,
+ * Takes A Single Probe Instead Of Walking The Whole List
+ * The Table Uses Open Addressing With Linear Probing And Is Always Kept At Most Half Full
+ */
+public final class MoveIndex {
+
+    //No Move Goes From A Tile To Itself So A Key Of 0 Marks An Empty Slot
+    private static final int EMPTY = 0;
+
+    private final int[] keys;
+    private final Move[] moves;
+    private final int mask;
+
+    /**
+     * Constructor For The Move Index
+     * @param legalMoves The Legal Moves To Index
+     */
+    public MoveIndex(final Collection<Move> legalMoves){
+        int capacity = 8;
+        while(capacity < legalMoves.size() * 2){
+            capacity <<= 1;
+        }
+        this.keys = new int[capacity];
+        this.moves = new Move[capacity];
+        this.mask = capacity - 1;
+
+        for(final Move move : legalMoves){
+            final int key = createKey(move);
+            int slot = getSlot(key);
+            while(this.keys[slot] != EMPTY){
+                slot = (slot + 1) & this.mask;
+            }
+            this.keys[slot] = key;
+            this.moves[slot] = move;
+        }
+    }
+
+    /**
+     * Gets The Legal Move Between Two Tiles, A Pawn Reaching The Last Row Promotes To A Queen
+     * @param currentCoordinate The Tile The Piece Moves From
+     * @param destinationCoordinate The Tile The Piece Moves To
+     * @return The Move Or Null If There Is No Such Legal Move
+     */
+    public Move get(final int currentCoordinate, final int destinationCoordinate){
+        final Move move = get(currentCoordinate, destinationCoordinate, null);
+        return move != null ? move : get(currentCoordinate, destinationCoordinate, Piece.PieceType.QUEEN);
+    }
+
+    /**
+     * Gets The Legal Move Between Two Tiles With The Given Promotion
+     * @param currentCoordinate The Tile The Piece Moves From
+     * @param destinationCoordinate The Tile The Piece Moves To
+     * @param promotionType The Piece A Pawn Promotes To, Or Null For Any Other Move
+     * @return The Move Or Null If There Is No Such Legal Move
+     */
+    public Move get(final int currentCoordinate, final int destinationCoordinate, final Piece.PieceType promotionType){
+        final int key = createKey(currentCoordinate, destinationCoordinate, promotionType);
+        int slot = getSlot(key);
+        while(this.keys[slot] != EMPTY){
+            if(this.keys[slot] == key){
+                return this.moves[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return null;
+    }
+
+    /**
+     * Gets Whether A Move Is One Of The Indexed Legal Moves
+     * @param move The Move To Look For
+     * @return If The Move Is Indexed
+     */
+    public boolean contains(final Move move){
+        if(move == null || move.getMovedPiece() == null){
+            return false;
+        }
+        final Move indexedMove = get(move.getCurrentCoordinate(), move.getDestinationCoordinate(), getPromotionType(move));
+        return indexedMove != null && (indexedMove == move || indexedMove.equals(move));
+    }
+
+    /**
+     * Creates The Key Of A Move
+     * @param move The Move
+     * @return The Key Built From Its Tiles And Promotion Piece
+     */
+    private static int createKey(final Move move){
+        return createKey(move.getCurrentCoordinate(), move.getDestinationCoordinate(), getPromotionType(move));
+    }
+
+    /**
+     * Creates A Key From A From Tile, To Tile And Promotion Piece
+     * @param currentCoordinate The Tile The Piece Moves From
+     * @param destinationCoordinate The Tile The Piece Moves To
+     * @param promotionType The Promotion Piece Or Null
+     * @return The Key
+     */
+    private static int createKey(final int currentCoordinate, final int destinationCoordinate, final Piece.PieceType promotionType){
+        final int promotion = promotionType == null ? 0 : promotionType.ordinal();
+        return currentCoordinate | (destinationCoordinate << 6) | (promotion << 12);
+    }
+
+    /**
+     * Gets The Promotion Piece Of A Move
+     * @param move The Move
+     * @return The Promotion Piece Or Null If It Isn't A Promotion
+     */
+    private static Piece.PieceType getPromotionType(final Move move){
+        return move instanceof Move.PawnPromotionMove ? ((Move.PawnPromotionMove) move).getPromotionType() : null;
+    }
+
+    /**
+     * Gets The Slot A Key Is First Looked For In
+     * @param key The Key
+     * @return The Slot
+     */
+    private int getSlot(final int key){
+        return ((key * 0x9E3779B9) >>> 16) & this.mask;
+    }
+}
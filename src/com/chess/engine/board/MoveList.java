@@ -0,0 +1,134 @@
+package com.chess.engine.board;
+
+/**
+ * A Reusable List Of Encoded Moves Backed By A Fixed Size Array
+ *
+ * Move Generation Writes Into It Instead Of Returning A Collection, So Generating Moves Allocates Nothing
+ * Each Thread Has A Stack Of Lists Indexed By Ply, So A Search Can Reuse The Same Lists For Its Whole Run
+ */
+public final class MoveList implements MoveSink {
+
+    //Deeper Than Any Search Or Perft Will Go
+    public static final int MAX_PLY = 128;
+
+    private static final ThreadLocal<MoveList[]> STACK = ThreadLocal.withInitial(() -> {
+        final MoveList[] lists = new MoveList[MAX_PLY];
+        for(int i = 0; i < lists.length; i++){
+            lists[i] = new MoveList();
+        }
+        return lists;
+    });
+
+    private final int[] moves;
+    private int size;
+
+    /**
+     * Constructor For An Empty Move List
+     */
+    public MoveList(){
+        this.moves = new int[MoveGenerator.MAX_MOVES];
+        this.size = 0;
+    }
+
+    /**
+     * Gets The Current Threads Move List For A Ply, Emptied Ready To Be Generated Into
+     * @param ply The Distance From The Root Of The Search
+     * @return The Move List For That Ply
+     */
+    public static MoveList forPly(final int ply){
+        final MoveList moveList = STACK.get()[ply];
+        moveList.clear();
+        return moveList;
+    }
+
+    /**
+     * Adds An Encoded Move To The End Of The List
+     * @param move The Encoded Move
+     */
+    public void add(final int move){
+        this.moves[this.size++] = move;
+    }
+
+    /**
+     * Adds A Generated Move To The End Of The List
+     * @param from The Tile The Piece Moves From
+     * @param to The Tile The Piece Moves To
+     * @param flag The Kind Of Move, One Of The MoveEncoding Flags
+     */
+    @Override
+    public void accept(final int from, final int to, final int flag){
+        add(MoveEncoding.encode(from, to, flag));
+    }
+
+    /**
+     * Gets The Encoded Move At An Index
+     * @param index The Index Of The Move
+     * @return The Encoded Move
+     */
+    public int get(final int index){
+        return this.moves[index];
+    }
+
+    /**
+     * Replaces The Encoded Move At An Index
+     * @param index The Index Of The Move
+     * @param move The Encoded Move To Put There
+     */
+    public void set(final int index, final int move){
+        this.moves[index] = move;
+    }
+
+    /**
+     * Swaps Two Moves, Used When Ordering The List In Place
+     * @param first The Index Of One Move
+     * @param second The Index Of The Other Move
+     */
+    public void swap(final int first, final int second){
+        final int move = this.moves[first];
+        this.moves[first] = this.moves[second];
+        this.moves[second] = move;
+    }
+
+    /**
+     * Gets The Number Of Moves In The List
+     * @return The Size Of The List
+     */
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Gets Whether The List Has No Moves
+     * @return If The List Is Empty
+     */
+    public boolean isEmpty(){
+        return this.size == 0;
+    }
+
+    /**
+     * Drops The Moves After The First Few
+     * @param size The Number Of Moves To Keep
+     */
+    public void truncate(final int size){
+        this.size = size;
+    }
+
+    /**
+     * Empties The List
+     */
+    public void clear(){
+        this.size = 0;
+    }
+
+    @Override
+    public String toString(){
+        final StringBuilder builder = new StringBuilder("[");
+        for(int i = 0; i < this.size; i++){
+            if(i > 0){
+                builder.append(", ");
+            }
+            builder.append(MoveEncoding.toUCIString(this.moves[i]));
+        }
+        return builder.append("]").toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.chess.engine.board;
+
+/**
+ * Receives Moves One At A Time As They Are Generated, As Primitive From, To And Flag Values
+ *
+ * Lets Callers Such As Perft, Counting And Attack Detection Use Moves Without Any Collection Or Move Object Being Created
+ * The Flags Are The Ones Defined In MoveEncoding
+ */
+public interface MoveSink {
+
+    /**
+     * Accepts A Generated Move
+     * @param from The Tile The Piece Moves From
+     * @param to The Tile The Piece Moves To
+     * @param flag The Kind Of Move, One Of The MoveEncoding Flags
+     */
+    void accept(int from, int to, int flag);
+}
@@ -0,0 +1,55 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece;
+
+/**
+ * The Bitboard View Of A Chess Position Shared By The Immutable Board And The Mutable Search Board
+ */
+public interface Position {
+
+    /**
+     * Gets The Bitboard Of All Tiles Holding The Given Alliance And Piece Type
+     * @param alliance The Alliance Of The Pieces
+     * @param pieceType The Type Of The Pieces
+     * @return The Bitboard For Those Pieces
+     */
+    long getPieceBitboard(Alliance alliance, Piece.PieceType pieceType);
+
+    /**
+     * Gets The Bitboard Of All Tiles Occupied By An Alliance
+     * @param alliance The Alliance
+     * @return The Alliances Occupancy
+     */
+    long getOccupancy(Alliance alliance);
+
+    /**
+     * Gets The Bitboard Of All Occupied Tiles
+     * @return The Occupancy Of Both Alliances
+     */
+    long getOccupancy();
+
+    /**
+     * Gets The Alliance Of The Player To Move
+     * @return The Alliance Who's Turn It Is
+     */
+    Alliance getNextMoveMaker();
+
+    /**
+     * Gets The Tile That Can Be Captured On En Passant
+     * @return The En Passant Tile Or -1 If There Is None
+     */
+    int getEnPassantSquare();
+
+    /**
+     * Gets The Castling Rights For Both Players
+     * @return The Castling Rights Using The BoardUtils Castle Bits
+     */
+    int getCastlingRights();
+
+    /**
+     * Gets The Zobrist Key Of The Position
+     * @return The 64 Bit Position Key
+     */
+    long getZobristKey();
+}
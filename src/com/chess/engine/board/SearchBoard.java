@@ -0,0 +1,466 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.*;
+
+/**
+ * A Mutable Board Used By Search And Perft
+ *
+ * Unlike Board Which Is Rebuilt For Every Move, The Search Board Makes And Unmakes Moves In Place
+ * Everything Needed To Take A Move Back Is Pushed Onto A Fixed Size Undo Stack So No Objects Are Created Per Move
+ * Use toBoard To Take An Immutable Snapshot Whenever The Board API Is Needed
+ */
+public final class SearchBoard implements Position {
+
+    //The Most Moves That Can Be Made Before They Have To Be Unmade
+    public static final int MAX_UNDO_DEPTH = 512;
+
+    //Stored On A Tile With No Piece, Otherwise A Tile Stores Its Pieces Bitboard Index
+    public static final int NO_PIECE = -1;
+
+    private static final Alliance[] ALLIANCES = Alliance.values();
+    private static final Piece.PieceType[] PIECE_TYPES = Piece.PieceType.values();
+
+    private final long[] pieceBitboards;
+    private final long[] occupancy;
+    private final int[] pieces;
+
+    private Alliance sideToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+    private long zobristKey;
+
+    private final int[] undoFrom;
+    private final int[] undoTo;
+    private final int[] undoMovedPiece;
+    private final int[] undoCapturedPiece;
+    private final int[] undoCastlingRights;
+    private final int[] undoEnPassantSquare;
+    private final long[] undoZobristKey;
+    private int undoDepth;
+
+    /**
+     * Creates A Search Board Holding The Same Position As The Given Board
+     * @param board The Board To Copy
+     */
+    public SearchBoard(final Board board){
+        this.pieceBitboards = new long[BoardUtils.NUM_BITBOARDS];
+        this.occupancy = new long[ALLIANCES.length];
+        this.pieces = new int[BoardUtils.NUM_TILES];
+
+        this.undoFrom = new int[MAX_UNDO_DEPTH];
+        this.undoTo = new int[MAX_UNDO_DEPTH];
+        this.undoMovedPiece = new int[MAX_UNDO_DEPTH];
+        this.undoCapturedPiece = new int[MAX_UNDO_DEPTH];
+        this.undoCastlingRights = new int[MAX_UNDO_DEPTH];
+        this.undoEnPassantSquare = new int[MAX_UNDO_DEPTH];
+        this.undoZobristKey = new long[MAX_UNDO_DEPTH];
+
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            final Piece piece = board.getPiece(i);
+            if(piece == null){
+                this.pieces[i] = NO_PIECE;
+            } else {
+                addPiece(BoardUtils.getBitboardIndex(piece.getPieceAlliance(), piece.getPieceType()), i);
+            }
+        }
+
+        this.sideToMove = board.getNextMoveMaker();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantSquare = board.getEnPassantSquare();
+        this.undoDepth = 0;
+
+        //Adding The Pieces Already Xored In Their Keys
+        this.zobristKey ^= Zobrist.getCastlingKey(this.castlingRights) ^ Zobrist.getEnPassantKey(this.enPassantSquare);
+        if(this.sideToMove == Alliance.BLACK){
+            this.zobristKey ^= Zobrist.getSideKey();
+        }
+    }
+
+    /**
+     * Creates A Search Board Holding The Same Position As Another, With An Empty Undo Stack
+     *
+     * Lets Work On A Position Be Split Between Threads, Each With Its Own Board
+     *
+     * @param other The Search Board To Copy
+     */
+    public SearchBoard(final SearchBoard other){
+        this.pieceBitboards = other.pieceBitboards.clone();
+        this.occupancy = other.occupancy.clone();
+        this.pieces = other.pieces.clone();
+
+        this.undoFrom = new int[MAX_UNDO_DEPTH];
+        this.undoTo = new int[MAX_UNDO_DEPTH];
+        this.undoMovedPiece = new int[MAX_UNDO_DEPTH];
+        this.undoCapturedPiece = new int[MAX_UNDO_DEPTH];
+        this.undoCastlingRights = new int[MAX_UNDO_DEPTH];
+        this.undoEnPassantSquare = new int[MAX_UNDO_DEPTH];
+        this.undoZobristKey = new long[MAX_UNDO_DEPTH];
+
+        this.sideToMove = other.sideToMove;
+        this.castlingRights = other.castlingRights;
+        this.enPassantSquare = other.enPassantSquare;
+        this.zobristKey = other.zobristKey;
+        this.undoDepth = 0;
+    }
+
+    /**
+     * Makes An Existing Move On This Board
+     * @param move The Move To Make, It Must Have Been Generated For This Position
+     */
+    public void make(final Move move){
+        make(MoveEncoding.fromMove(move));
+    }
+
+    /**
+     * Makes An Encoded Move On This Board
+     * @param move The Move Encoded With MoveEncoding, It Must Be Valid For This Position
+     */
+    public void make(final int move){
+        final Piece.PieceType promotionType = MoveEncoding.getPromotionType(move);
+        final int promotionPiece = promotionType == null ? NO_PIECE : BoardUtils.getBitboardIndex(this.sideToMove, promotionType);
+        makeMove(MoveEncoding.getFrom(move), MoveEncoding.getTo(move), promotionPiece);
+    }
+
+    /**
+     * Takes Back The Last Move That Was Made
+     *
+     * Pops The Undo Stack, Moves The Piece Back, Restores Any Captured Piece And The Castling, En Passant And Zobrist Key State
+     */
+    public void unmake(){
+        if(this.undoDepth == 0){
+            throw new RuntimeException("There Is No Move To Unmake");
+        }
+        this.undoDepth--;
+
+        final int from = this.undoFrom[this.undoDepth];
+        final int to = this.undoTo[this.undoDepth];
+        final int movedPiece = this.undoMovedPiece[this.undoDepth];
+        final int capturedPiece = this.undoCapturedPiece[this.undoDepth];
+
+        this.sideToMove = ALLIANCES[movedPiece / BoardUtils.NUM_PIECE_TYPES];
+        this.castlingRights = this.undoCastlingRights[this.undoDepth];
+        this.enPassantSquare = this.undoEnPassantSquare[this.undoDepth];
+
+        //The Piece On The Destination May Be A Promoted Piece So Remove Whatever Is There And Put Back The Moved Piece
+        removePiece(this.pieces[to], to);
+        addPiece(movedPiece, from);
+
+        if(capturedPiece != NO_PIECE){
+            addPiece(capturedPiece, getCapturedSquare(movedPiece, to));
+        }
+
+        if(isCastle(movedPiece, from, to)){
+            final int rookFrom = getCastleRookStart(to);
+            final int rookTo = getCastleRookDestination(to);
+            movePiece(this.pieces[rookTo], rookTo, rookFrom);
+        }
+
+        this.zobristKey = this.undoZobristKey[this.undoDepth];
+    }
+
+    /**
+     * Makes A Move Given As Coordinates
+     *
+     * Pushes The State Needed To Undo The Move, Then Moves The Piece, Removes Any Captured Piece,
+     * Moves The Rook When Castling, Swaps In The Promotion Piece And Updates The Castling And En Passant State
+     *
+     * @param from The Tile The Piece Moves From
+     * @param to The Tile The Piece Moves To
+     * @param promotionPiece The Bitboard Index Of The Piece A Pawn Promotes To Or NO_PIECE
+     */
+    private void makeMove(final int from, final int to, final int promotionPiece){
+        if(this.undoDepth == MAX_UNDO_DEPTH){
+            throw new RuntimeException("The Undo Stack Is Full");
+        }
+
+        final int movedPiece = this.pieces[from];
+        final int capturedSquare = getCapturedSquare(movedPiece, to);
+        final int capturedPiece = this.pieces[capturedSquare];
+
+        this.undoFrom[this.undoDepth] = from;
+        this.undoTo[this.undoDepth] = to;
+        this.undoMovedPiece[this.undoDepth] = movedPiece;
+        this.undoCapturedPiece[this.undoDepth] = capturedPiece;
+        this.undoCastlingRights[this.undoDepth] = this.castlingRights;
+        this.undoEnPassantSquare[this.undoDepth] = this.enPassantSquare;
+        this.undoZobristKey[this.undoDepth] = this.zobristKey;
+        this.undoDepth++;
+
+        if(capturedPiece != NO_PIECE){
+            removePiece(capturedPiece, capturedSquare);
+        }
+
+        if(promotionPiece != NO_PIECE){
+            removePiece(movedPiece, from);
+            addPiece(promotionPiece, to);
+        } else {
+            movePiece(movedPiece, from, to);
+        }
+
+        if(isCastle(movedPiece, from, to)){
+            final int rookFrom = getCastleRookStart(to);
+            movePiece(this.pieces[rookFrom], rookFrom, getCastleRookDestination(to));
+        }
+
+        //The Piece Updates Above Already Changed The Key, Now Swap In The New Castling, En Passant And Side Keys
+        this.zobristKey ^= Zobrist.getCastlingKey(this.castlingRights) ^ Zobrist.getEnPassantKey(this.enPassantSquare);
+        this.enPassantSquare = isPawnJump(movedPiece, from, to) ? (from + to) / 2 : -1;
+        this.castlingRights &= BoardUtils.CASTLING_RIGHTS_MASK[from] & BoardUtils.CASTLING_RIGHTS_MASK[to];
+        this.sideToMove = ALLIANCES[1 - this.sideToMove.ordinal()];
+        this.zobristKey ^= Zobrist.getCastlingKey(this.castlingRights) ^ Zobrist.getEnPassantKey(this.enPassantSquare) ^ Zobrist.getSideKey();
+
+        if(Zobrist.DEBUG){
+            Zobrist.verifyKey(this);
+        }
+    }
+
+    /**
+     * Builds An Immutable Board Holding The Current Position
+     * @return A Snapshot Of This Board
+     */
+    public Board toBoard(){
+        final Board.Builder builder = new Board.Builder();
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            if(this.pieces[i] != NO_PIECE){
+                builder.setPiece(createPiece(this.pieces[i], i));
+            }
+        }
+
+        if(this.enPassantSquare != -1){
+            final int enPassantPawnSquare = this.enPassantSquare - (BoardUtils.NUM_TILES_PER_ROW * this.sideToMove.getDirection());
+            builder.setEnPassant((Pawn) createPiece(this.pieces[enPassantPawnSquare], enPassantPawnSquare));
+        }
+
+        builder.setMoveMaker(this.sideToMove);
+        builder.setCastlingRights(this.castlingRights);
+        return builder.build();
+    }
+
+    /**
+     * Gets The Bitboard Index Of The Piece On A Tile
+     * @param tileCoordinate The Coordinate Of The Tile
+     * @return The Pieces Bitboard Index Or NO_PIECE If The Tile Is Empty
+     */
+    public int getPiece(final int tileCoordinate){
+        return this.pieces[tileCoordinate];
+    }
+
+    /**
+     * Gets The Bitboard Of All Tiles Holding The Given Alliance And Piece Type
+     * @param alliance The Alliance Of The Pieces
+     * @param pieceType The Type Of The Pieces
+     * @return The Bitboard For Those Pieces
+     */
+    @Override
+    public long getPieceBitboard(final Alliance alliance, final Piece.PieceType pieceType){
+        return this.pieceBitboards[BoardUtils.getBitboardIndex(alliance, pieceType)];
+    }
+
+    /**
+     * Gets The Bitboard Of All Tiles Occupied By An Alliance
+     * @param alliance The Alliance
+     * @return The Alliances Occupancy
+     */
+    @Override
+    public long getOccupancy(final Alliance alliance){
+        return this.occupancy[alliance.ordinal()];
+    }
+
+    /**
+     * Gets The Bitboard Of All Occupied Tiles
+     * @return The Occupancy Of Both Alliances
+     */
+    @Override
+    public long getOccupancy(){
+        return this.occupancy[0] | this.occupancy[1];
+    }
+
+    /**
+     * Gets The Alliance Of The Player To Move
+     * @return The Alliance Who's Turn It Is
+     */
+    @Override
+    public Alliance getNextMoveMaker(){
+        return this.sideToMove;
+    }
+
+    /**
+     * Gets The Tile That Can Be Captured On En Passant
+     * @return The En Passant Tile Or -1 If There Is None
+     */
+    @Override
+    public int getEnPassantSquare(){
+        return this.enPassantSquare;
+    }
+
+    /**
+     * Gets The Castling Rights For Both Players
+     * @return The Castling Rights Using The BoardUtils Castle Bits
+     */
+    @Override
+    public int getCastlingRights(){
+        return this.castlingRights;
+    }
+
+    /**
+     * Gets The Zobrist Key Of The Position
+     * @return The 64 Bit Position Key
+     */
+    @Override
+    public long getZobristKey(){
+        return this.zobristKey;
+    }
+
+    /**
+     * Gets Whether An Alliances King Is Attacked
+     *
+     * After Making A Move Checking The Alliance That Just Moved Tells Whether That Move Left Its Own King In Check
+     *
+     * @param alliance The Alliance Whose King To Check
+     * @return If That Alliances King Is Attacked By The Other Alliance
+     */
+    public boolean isInCheck(final Alliance alliance){
+        final int kingTile = Long.numberOfTrailingZeros(getPieceBitboard(alliance, Piece.PieceType.KING));
+        return BoardUtils.isSquareAttacked(this, kingTile, alliance == Alliance.WHITE ? Alliance.BLACK : Alliance.WHITE);
+    }
+
+    /**
+     * Gets How Many Moves Have Been Made And Not Yet Unmade
+     * @return The Number Of Entries On The Undo Stack
+     */
+    public int getUndoDepth(){
+        return this.undoDepth;
+    }
+
+    @Override
+    public String toString(){
+        return toBoard().toString();
+    }
+
+    /**
+     * Places A Piece On An Empty Tile
+     * @param piece The Pieces Bitboard Index
+     * @param tileCoordinate The Tile To Place It On
+     */
+    private void addPiece(final int piece, final int tileCoordinate){
+        final long tileBit = 1L << tileCoordinate;
+        this.pieceBitboards[piece] |= tileBit;
+        this.occupancy[piece / BoardUtils.NUM_PIECE_TYPES] |= tileBit;
+        this.pieces[tileCoordinate] = piece;
+        this.zobristKey ^= Zobrist.getPieceKey(piece, tileCoordinate);
+    }
+
+    /**
+     * Removes A Piece From Its Tile
+     * @param piece The Pieces Bitboard Index
+     * @param tileCoordinate The Tile It Is On
+     */
+    private void removePiece(final int piece, final int tileCoordinate){
+        final long tileBit = 1L << tileCoordinate;
+        this.pieceBitboards[piece] &= ~tileBit;
+        this.occupancy[piece / BoardUtils.NUM_PIECE_TYPES] &= ~tileBit;
+        this.pieces[tileCoordinate] = NO_PIECE;
+        this.zobristKey ^= Zobrist.getPieceKey(piece, tileCoordinate);
+    }
+
+    /**
+     * Moves A Piece From One Tile To An Empty Tile
+     * @param piece The Pieces Bitboard Index
+     * @param from The Tile It Is On
+     * @param to The Tile To Move It To
+     */
+    private void movePiece(final int piece, final int from, final int to){
+        final long moveBits = (1L << from) | (1L << to);
+        this.pieceBitboards[piece] ^= moveBits;
+        this.occupancy[piece / BoardUtils.NUM_PIECE_TYPES] ^= moveBits;
+        this.pieces[from] = NO_PIECE;
+        this.pieces[to] = piece;
+        this.zobristKey ^= Zobrist.getPieceKey(piece, from) ^ Zobrist.getPieceKey(piece, to);
+    }
+
+    /**
+     * Gets Whether A Piece Moving To A Tile Is Capturing En Passant
+     * @param movedPiece The Moving Pieces Bitboard Index
+     * @param to The Destination Tile
+     * @return If The Piece Is A Pawn Moving To The En Passant Tile
+     */
+    private boolean isEnPassant(final int movedPiece, final int to){
+        return to == this.enPassantSquare && movedPiece % BoardUtils.NUM_PIECE_TYPES == Piece.PieceType.PAWN.ordinal();
+    }
+
+    /**
+     * Gets The Tile A Captured Piece Was Taken From, Which Is Behind The Destination For En Passant
+     * @param movedPiece The Moving Pieces Bitboard Index
+     * @param to The Destination Tile
+     * @return The Tile The Captured Piece Was On
+     */
+    private int getCapturedSquare(final int movedPiece, final int to){
+        if(isEnPassant(movedPiece, to)){
+            return to - (BoardUtils.NUM_TILES_PER_ROW * this.sideToMove.getDirection());
+        }
+        return to;
+    }
+
+    private static boolean isPawnJump(final int movedPiece, final int from, final int to){
+        return movedPiece % BoardUtils.NUM_PIECE_TYPES == Piece.PieceType.PAWN.ordinal() &&
+                Math.abs(to - from) == 2 * BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static boolean isCastle(final int movedPiece, final int from, final int to){
+        return movedPiece % BoardUtils.NUM_PIECE_TYPES == Piece.PieceType.KING.ordinal() && Math.abs(to - from) == 2;
+    }
+
+    private static int getCastleRookStart(final int kingDestination){
+        return isKingSideCastle(kingDestination) ? kingDestination + 1 : kingDestination - 2;
+    }
+
+    private static int getCastleRookDestination(final int kingDestination){
+        return isKingSideCastle(kingDestination) ? kingDestination - 1 : kingDestination + 1;
+    }
+
+    private static boolean isKingSideCastle(final int kingDestination){
+        return kingDestination % BoardUtils.NUM_TILES_PER_ROW == 6;
+    }
+
+    /**
+     * Creates A Piece Object For A Bitboard Index On A Tile
+     *
+     * Pawns On Their Starting Row And Kings And Rooks That Still Hold A Castling Right Are Created As Unmoved
+     *
+     * @param piece The Pieces Bitboard Index
+     * @param tileCoordinate The Tile The Piece Is On
+     * @return The Piece
+     */
+    private Piece createPiece(final int piece, final int tileCoordinate){
+        final Alliance alliance = ALLIANCES[piece / BoardUtils.NUM_PIECE_TYPES];
+        final boolean white = alliance == Alliance.WHITE;
+        final Piece.PieceType pieceType = PIECE_TYPES[piece % BoardUtils.NUM_PIECE_TYPES];
+        final boolean isFirstMove;
+        switch(pieceType){
+            case PAWN:
+                final int startingRow = white ? 6 : 1;
+                isFirstMove = tileCoordinate / BoardUtils.NUM_TILES_PER_ROW == startingRow;
+                break;
+            case ROOK:
+                isFirstMove = hasCastlingRight(tileCoordinate);
+                break;
+            case KING:
+                final int castles = white ? BoardUtils.WHITE_KING_SIDE_CASTLE | BoardUtils.WHITE_QUEEN_SIDE_CASTLE :
+                        BoardUtils.BLACK_KING_SIDE_CASTLE | BoardUtils.BLACK_QUEEN_SIDE_CASTLE;
+                isFirstMove = (this.castlingRights & castles) != 0;
+                break;
+            default:
+                isFirstMove = false;
+        }
+        return PieceUtils.getPiece(pieceType, tileCoordinate, alliance, isFirstMove);
+    }
+
+    /**
+     * Gets Whether A Rook On The Given Tile Still Holds A Castling Right
+     * @param tileCoordinate The Tile Of The Rook
+     * @return If A Castle With That Rook Is Still Available
+     */
+    private boolean hasCastlingRight(final int tileCoordinate){
+        return (this.castlingRights & ~BoardUtils.CASTLING_RIGHTS_MASK[tileCoordinate]) != 0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece;
+
+import java.util.Random;
+
+/**
+ * The Random Keys Used To Build A 64 Bit Zobrist Key For A Position
+ *
+ * A Position Key Is The Xor Of One Key Per Piece On Its Tile, The Side Key When Black Is To Move,
+ * The Key For The Current Castling Rights And The Key For The En Passant File If There Is One
+ * Moves Update The Key Incrementally By Xoring Out What Changed And Xoring In The Replacement
+ */
+public final class Zobrist {
+
+    //Set -Dchess.zobrist.debug=true To Check Every Incremental Key Against A Full Recompute
+    public static final boolean DEBUG = Boolean.getBoolean("chess.zobrist.debug");
+
+    //A Fixed Seed So The Same Position Always Gets The Same Key Between Runs
+    private static final long SEED = 0x5EED_C0FF_EE15_BADL;
+
+    private static final long[][] PIECE_KEYS = new long[BoardUtils.NUM_BITBOARDS][BoardUtils.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[BoardUtils.ALL_CASTLES + 1];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long SIDE_KEY;
+
+    static {
+        final Random random = new Random(SEED);
+        for(final long[] pieceKeys : PIECE_KEYS){
+            for(int i = 0; i < pieceKeys.length; i++){
+                pieceKeys[i] = random.nextLong();
+            }
+        }
+        //No Castling Rights Keeps The Key Unchanged
+        for(int i = 1; i < CASTLING_KEYS.length; i++){
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for(int i = 0; i < EN_PASSANT_KEYS.length; i++){
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+        SIDE_KEY = random.nextLong();
+    }
+
+    /**
+     * The Default Constructor For Zobrist Which Shouldn't Be Able To Be Initialised
+     */
+    private Zobrist(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Gets The Key For A Piece On A Tile
+     * @param bitboardIndex The Pieces Bitboard Index
+     * @param tileCoordinate The Tile The Piece Is On
+     * @return The Piece Key
+     */
+    public static long getPieceKey(final int bitboardIndex, final int tileCoordinate){
+        return PIECE_KEYS[bitboardIndex][tileCoordinate];
+    }
+
+    /**
+     * Gets The Key For A Piece On A Tile
+     * @param piece The Piece
+     * @param tileCoordinate The Tile The Piece Is On
+     * @return The Piece Key
+     */
+    public static long getPieceKey(final Piece piece, final int tileCoordinate){
+        return PIECE_KEYS[BoardUtils.getBitboardIndex(piece.getPieceAlliance(), piece.getPieceType())][tileCoordinate];
+    }
+
+    /**
+     * Gets The Key For A Set Of Castling Rights
+     * @param castlingRights The Castling Rights Using The BoardUtils Castle Bits
+     * @return The Castling Key
+     */
+    public static long getCastlingKey(final int castlingRights){
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /**
+     * Gets The Key For The File Of An En Passant Tile
+     * @param enPassantSquare The En Passant Tile Or -1
+     * @return The En Passant Key Or 0 If There Is No En Passant Tile
+     */
+    public static long getEnPassantKey(final int enPassantSquare){
+        return enPassantSquare == -1 ? 0L : EN_PASSANT_KEYS[enPassantSquare % BoardUtils.NUM_TILES_PER_ROW];
+    }
+
+    /**
+     * Gets The Key Xored In When Black Is To Move
+     * @return The Side Key
+     */
+    public static long getSideKey(){
+        return SIDE_KEY;
+    }
+
+    /**
+     * Calculates The Key For A Position From Scratch
+     * @param position The Position To Hash
+     * @return The Zobrist Key
+     */
+    public static long calculateKey(final Position position){
+        long key = 0L;
+        for(final Alliance alliance : Alliance.values()){
+            for(final Piece.PieceType pieceType : Piece.PieceType.values()){
+                final int bitboardIndex = BoardUtils.getBitboardIndex(alliance, pieceType);
+                long pieces = position.getPieceBitboard(alliance, pieceType);
+                while(pieces != 0){
+                    key ^= PIECE_KEYS[bitboardIndex][Long.numberOfTrailingZeros(pieces)];
+                    pieces &= pieces - 1;
+                }
+            }
+        }
+        key ^= getCastlingKey(position.getCastlingRights());
+        key ^= getEnPassantKey(position.getEnPassantSquare());
+        if(position.getNextMoveMaker() == Alliance.BLACK){
+            key ^= SIDE_KEY;
+        }
+        return key;
+    }
+
+    /**
+     * Checks An Incrementally Updated Key Against A Full Recompute
+     *
+     * Throws A Runtime Exception If They Differ
+     *
+     * @param position The Position Holding The Incremental Key
+     */
+    static void verifyKey(final Position position){
+        final long expectedKey = calculateKey(position);
+        if(position.getZobristKey() != expectedKey){
+            throw new RuntimeException("Incremental Zobrist Key " + Long.toHexString(position.getZobristKey()) +
+                    " Does Not Match The Recomputed Key " + Long.toHexString(expectedKey));
+        }
+    }
+}
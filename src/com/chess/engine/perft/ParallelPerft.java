@@ -0,0 +1,160 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts The Leaf Nodes Of The Legal Move Tree On Several Threads
+ *
+ * The First Few Plies Are Split Into Fork Join Tasks, One For Each Move, And Every Task Gets Its Own Search Board
+ * Below The Split Depth Each Task Counts Its Subtree With The Single Threaded Perft And The Counts Are Summed
+ * A Hash Table Is Shared By Every Task As Its Entries Can Be Read And Written Without Locking
+ * Splitting The Root And The Ply After It Gives Hundreds To Thousands Of Tasks, Enough To Keep Every Core Busy
+ */
+public final class ParallelPerft {
+
+    //Splitting The Root Moves And The Replies To Them
+    public static final int DEFAULT_SPLIT_DEPTH = 2;
+
+    /**
+     * The Default Constructor For Parallel Perft Which Shouldn't Be Able To Be Initialised
+     */
+    private ParallelPerft(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Counts The Leaf Nodes Of The Legal Move Tree Below A Board
+     * @param board The Board To Start From
+     * @param depth The Number Of Plies To Search
+     * @param settings How To Count, Including The Number Of Threads And Plies To Split
+     * @param hashTable The Table Of Counts Already Worked Out Or Null
+     * @return The Number Of Leaf Nodes
+     */
+    public static long perft(final Board board, final int depth, final PerftSettings settings, final PerftHashTable hashTable){
+        final ForkJoinPool pool = new ForkJoinPool(settings.getThreads());
+        try {
+            return pool.invoke(new PerftTask(new SearchBoard(board), depth, settings.getSplitDepth(), settings, hashTable));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Counts The Leaf Nodes Below Each Legal Move Of A Board
+     * @param board The Board To Start From
+     * @param depth The Number Of Plies To Search, Including The Root Move
+     * @param settings How To Count, The Split Depth Including The Root
+     * @param hashTable The Table Of Counts Already Worked Out Or Null
+     * @return The Count For Each Root Move In UCI Notation, In Generation Order
+     */
+    public static Map<String, Long> divide(final Board board, final int depth, final PerftSettings settings, final PerftHashTable hashTable){
+        if(depth < 1){
+            throw new RuntimeException("Divide Needs A Depth Of At Least 1");
+        }
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(searchBoard, searchBoard.getNextMoveMaker(), moves);
+
+        final List<PerftTask> tasks = createTasks(searchBoard, moves, depth - 1, settings.getSplitDepth() - 1, settings, hashTable);
+        final ForkJoinPool pool = new ForkJoinPool(settings.getThreads());
+        try {
+            for(final PerftTask task : tasks){
+                pool.execute(task);
+            }
+            final Map<String, Long> counts = new LinkedHashMap<>();
+            for(int i = 0; i < moves.size(); i++){
+                counts.put(MoveEncoding.toUCIString(moves.get(i)), tasks.get(i).join());
+            }
+            return counts;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Creates A Task For The Subtree Below Each Move, Each On Its Own Copy Of The Board With The Move Made
+     * @param board The Board The Moves Are Made On
+     * @param moves The Legal Moves
+     * @param depth The Number Of Plies Left Below Each Move
+     * @param splitDepth The Number Of Plies Below Each Move Still To Split
+     * @param settings How To Count
+     * @param hashTable The Table Of Counts Already Worked Out Or Null
+     * @return The Tasks In The Same Order As The Moves
+     */
+    private static List<PerftTask> createTasks(final SearchBoard board, final MoveList moves, final int depth, final int splitDepth,
+                                               final PerftSettings settings, final PerftHashTable hashTable){
+        final List<PerftTask> tasks = new ArrayList<>(moves.size());
+        for(int i = 0; i < moves.size(); i++){
+            final SearchBoard childBoard = new SearchBoard(board);
+            childBoard.make(moves.get(i));
+            tasks.add(new PerftTask(childBoard, depth, Math.max(splitDepth, 0), settings, hashTable));
+        }
+        return tasks;
+    }
+
+    /**
+     * A Task Counting The Leaf Nodes Below One Position
+     */
+    private static final class PerftTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SearchBoard board;
+        private final int depth;
+        private final int splitDepth;
+        private final PerftSettings settings;
+        private final PerftHashTable hashTable;
+
+        /**
+         * Constructor For The Perft Task
+         * @param board The Board To Count From, Owned By This Task
+         * @param depth The Number Of Plies Left To Search
+         * @param splitDepth The Number Of Plies Still To Split Into Further Tasks
+         * @param settings How To Count
+         * @param hashTable The Table Of Counts Already Worked Out Or Null
+         */
+        private PerftTask(final SearchBoard board, final int depth, final int splitDepth,
+                          final PerftSettings settings, final PerftHashTable hashTable){
+            this.board = board;
+            this.depth = depth;
+            this.splitDepth = splitDepth;
+            this.settings = settings;
+            this.hashTable = hashTable;
+        }
+
+        /**
+         * Counts The Subtree Directly Once Nothing Is Left To Split, Else Forks A Task For Each Move And Sums Them
+         *
+         * A Thread Waiting On Its Forked Tasks May Run Other Tasks Meanwhile, So The Move List Here Is Its Own
+         * Rather Than One Of The Threads Per Ply Lists Which The Direct Count Uses
+         *
+         * @return The Number Of Leaf Nodes
+         */
+        @Override
+        protected Long compute(){
+            if(this.splitDepth == 0 || this.depth <= 1){
+                return Perft.count(this.board, this.depth, 0, this.settings, this.hashTable);
+            }
+
+            final MoveList moves = new MoveList();
+            MoveGenerator.generateLegalMoves(this.board, this.board.getNextMoveMaker(), moves);
+
+            long nodes = 0;
+            for(final PerftTask task : invokeAll(createTasks(this.board, moves, this.depth - 1, this.splitDepth - 1, this.settings, this.hashTable))){
+                nodes += task.join();
+            }
+            return nodes;
+        }
+    }
+}
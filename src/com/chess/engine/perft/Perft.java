@@ -0,0 +1,425 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.SearchBoard;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts The Leaf Nodes Of The Legal Move Tree To A Fixed Depth, The Correctness And Speed Baseline For Move Generation
+ *
+ * Moves Are Generated With The MoveGenerator And Made And Unmade On A SearchBoard, So Every Node Checks The Generator,
+ * The Legal Move Filter And Make / Unmake Together
+ *
+ * Run From The Command Line With One Of
+ * perft <depth> [fen]   Counts The Nodes From The Start Position Or The Given FEN
+ * divide <depth> [fen]  Also Prints The Count Below Each Root Move, For Finding Which Move A Wrong Count Comes From
+ * suite [maxDepth] [epdFile]  Checks Every Position And Depth In An EPD Suite, The Bundled One By Default
+ * Any Mode Can Be Preceded By -threads N To Count On N Threads And -split N To Split The First N Plies Between Them
+ * And By -bulk To Count The Last Ply Without Making It, Or -hash MB To Also Store Counts In A Hash Table
+ */
+public final class Perft {
+
+    public static final String STARTING_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    //The Bundled Suite Of Reference Positions, Found Next To This Class
+    private static final String DEFAULT_SUITE = "perftsuite.epd";
+
+    /**
+     * The Default Constructor For Perft Which Shouldn't Be Able To Be Initialised
+     */
+    private Perft(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Counts The Leaf Nodes Of The Legal Move Tree Below A Board
+     * @param board The Board To Start From
+     * @param depth The Number Of Plies To Search
+     * @return The Number Of Leaf Nodes
+     */
+    public static long perft(final Board board, final int depth){
+        return perft(new SearchBoard(board), depth, 0);
+    }
+
+    /**
+     * Counts The Leaf Nodes Of The Legal Move Tree Below A Search Board, Leaving The Board As It Was Found
+     * @param board The Search Board To Start From
+     * @param depth The Number Of Plies Left To Search
+     * @param ply The Number Of Plies Already Made, Picking The Move List To Generate Into
+     * @return The Number Of Leaf Nodes
+     */
+    public static long perft(final SearchBoard board, final int depth, final int ply){
+        if(depth == 0){
+            return 1;
+        }
+
+        final MoveList moves = MoveList.forPly(ply);
+        MoveGenerator.generateLegalMoves(board, board.getNextMoveMaker(), moves);
+
+        long nodes = 0;
+        for(int i = 0; i < moves.size(); i++){
+            board.make(moves.get(i));
+            nodes += perft(board, depth - 1, ply + 1);
+            board.unmake();
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts The Leaf Nodes Below A Search Board Without Making The Moves Of The Last Ply
+     *
+     * At Depth 1 The Number Of Legal Moves Is The Count, So Nothing Is Made Or Unmade
+     * With A Hash Table Every Count From Depth 2 Up Is Stored By Zobrist Key, So A Transposition Is Only Counted Once
+     *
+     * @param board The Search Board To Start From
+     * @param depth The Number Of Plies Left To Search
+     * @param ply The Number Of Plies Already Made, Picking The Move List To Generate Into
+     * @param hashTable The Table Of Counts Already Worked Out Or Null To Count Everything
+     * @return The Number Of Leaf Nodes
+     */
+    public static long bulkPerft(final SearchBoard board, final int depth, final int ply, final PerftHashTable hashTable){
+        if(depth == 0){
+            return 1;
+        }
+
+        //Probe Before Generating So A Hit Costs No Move Generation
+        if(depth > 1 && hashTable != null){
+            final long storedNodes = hashTable.probe(board.getZobristKey(), depth);
+            if(storedNodes >= 0){
+                return storedNodes;
+            }
+        }
+
+        final MoveList moves = MoveList.forPly(ply);
+        MoveGenerator.generateLegalMoves(board, board.getNextMoveMaker(), moves);
+        if(depth == 1){
+            return moves.size();
+        }
+
+        long nodes = 0;
+        for(int i = 0; i < moves.size(); i++){
+            board.make(moves.get(i));
+            nodes += bulkPerft(board, depth - 1, ply + 1, hashTable);
+            board.unmake();
+        }
+
+        if(hashTable != null){
+            hashTable.store(board.getZobristKey(), depth, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts The Leaf Nodes Below A Search Board On The Current Thread, Making Every Move Unless Bulk Counting
+     * @param board The Search Board To Start From
+     * @param depth The Number Of Plies Left To Search
+     * @param ply The Number Of Plies Already Made, Picking The Move List To Generate Into
+     * @param settings How To Count
+     * @param hashTable The Table Of Counts Already Worked Out Or Null
+     * @return The Number Of Leaf Nodes
+     */
+    static long count(final SearchBoard board, final int depth, final int ply, final PerftSettings settings, final PerftHashTable hashTable){
+        return settings.isBulkCounting() ? bulkPerft(board, depth, ply, hashTable) : perft(board, depth, ply);
+    }
+
+    /**
+     * Counts The Leaf Nodes Below Each Legal Move Of A Board
+     * @param board The Board To Start From
+     * @param depth The Number Of Plies To Search, Including The Root Move
+     * @return The Count For Each Root Move In UCI Notation, In Generation Order
+     */
+    public static Map<String, Long> divide(final Board board, final int depth){
+        return divide(board, depth, new PerftSettings.Builder().build(), null);
+    }
+
+    /**
+     * Counts The Leaf Nodes Below Each Legal Move Of A Board
+     * @param board The Board To Start From
+     * @param depth The Number Of Plies To Search, Including The Root Move
+     * @param settings How To Count
+     * @param hashTable The Table Of Counts Already Worked Out Or Null
+     * @return The Count For Each Root Move In UCI Notation, In Generation Order
+     */
+    public static Map<String, Long> divide(final Board board, final int depth, final PerftSettings settings, final PerftHashTable hashTable){
+        if(depth < 1){
+            throw new RuntimeException("Divide Needs A Depth Of At Least 1");
+        }
+        if(settings.getThreads() > 1){
+            return ParallelPerft.divide(board, depth, settings, hashTable);
+        }
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(searchBoard, searchBoard.getNextMoveMaker(), moves);
+
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        for(int i = 0; i < moves.size(); i++){
+            searchBoard.make(moves.get(i));
+            counts.put(MoveEncoding.toUCIString(moves.get(i)), count(searchBoard, depth - 1, 1, settings, hashTable));
+            searchBoard.unmake();
+        }
+        return counts;
+    }
+
+    /**
+     * Runs Every Position And Depth In An EPD Suite And Prints Whether Each Count Matches
+     *
+     * Each Line Holds A FEN Followed By The Expected Counts, For Example ;D1 20 ;D2 400
+     *
+     * @param suite The EPD Suite To Read
+     * @param maxDepth The Deepest Depth To Run, Deeper Counts In The Suite Are Skipped
+     * @param settings How To Count
+     * @return If Every Count That Was Run Matched
+     * @throws IOException If The Suite Can't Be Read
+     */
+    public static boolean runSuite(final InputStream suite, final int maxDepth, final PerftSettings settings) throws IOException {
+        final PerftHashTable hashTable = settings.createHashTable();
+        int passed = 0;
+        int failed = 0;
+        long totalNodes = 0;
+        long totalNanos = 0;
+
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(suite, StandardCharsets.UTF_8))){
+            String line;
+            while((line = reader.readLine()) != null){
+                line = line.trim();
+                if(line.isEmpty() || line.startsWith("#")){
+                    continue;
+                }
+
+                final String[] fields = line.split(";");
+                final Board board = FenUtilities.createGameFromFEN(fields[0]);
+                System.out.println(fields[0].trim());
+
+                for(int i = 1; i < fields.length; i++){
+                    final String[] expectation = fields[i].trim().split("\\s+");
+                    final int depth = Integer.parseInt(expectation[0].substring(1));
+                    final long expected = Long.parseLong(expectation[1]);
+                    if(depth > maxDepth){
+                        continue;
+                    }
+
+                    final long start = System.nanoTime();
+                    final long nodes = count(board, depth, settings, hashTable);
+                    final long elapsed = System.nanoTime() - start;
+                    totalNodes += nodes;
+                    totalNanos += elapsed;
+
+                    if(nodes == expected){
+                        passed++;
+                        System.out.println("    " + formatResult(depth, nodes, elapsed, hashTable) + " OK");
+                    } else {
+                        failed++;
+                        System.out.println("    " + formatResult(depth, nodes, elapsed, hashTable) + " FAILED, Expected " + expected);
+                    }
+                }
+            }
+        }
+
+        System.out.println(passed + " Passed, " + failed + " Failed, " + totalNodes + " Nodes In " + (totalNanos / 1000000) +
+                "ms (" + getNodesPerSecond(totalNodes, totalNanos) + " Nodes/s)");
+        return failed == 0;
+    }
+
+    /**
+     * Counts And Prints The Nodes For Each Depth Up To The Given One, Making Every Move On One Thread
+     * @param board The Board To Start From
+     * @param depth The Deepest Depth To Count
+     */
+    public static void runPerft(final Board board, final int depth){
+        runPerft(board, depth, new PerftSettings.Builder().build());
+    }
+
+    /**
+     * Counts And Prints The Nodes For Each Depth Up To The Given One
+     * @param board The Board To Start From
+     * @param depth The Deepest Depth To Count
+     * @param settings How To Count
+     */
+    public static void runPerft(final Board board, final int depth, final PerftSettings settings){
+        final PerftHashTable hashTable = settings.createHashTable();
+        for(int i = 1; i <= depth; i++){
+            final long start = System.nanoTime();
+            final long nodes = count(board, i, settings, hashTable);
+            System.out.println(formatResult(i, nodes, System.nanoTime() - start, hashTable));
+        }
+    }
+
+    /**
+     * Prints The Nodes Below Each Root Move And The Total
+     * @param board The Board To Start From
+     * @param depth The Number Of Plies To Search, Including The Root Move
+     * @param settings How To Count
+     */
+    public static void runDivide(final Board board, final int depth, final PerftSettings settings){
+        final PerftHashTable hashTable = settings.createHashTable();
+        final long start = System.nanoTime();
+        final Map<String, Long> counts = divide(board, depth, settings, hashTable);
+        final long elapsed = System.nanoTime() - start;
+
+        long nodes = 0;
+        for(final Map.Entry<String, Long> count : counts.entrySet()){
+            System.out.println(count.getKey() + ": " + count.getValue());
+            nodes += count.getValue();
+        }
+        System.out.println("Moves: " + counts.size());
+        System.out.println(formatResult(depth, nodes, elapsed, hashTable));
+    }
+
+    /**
+     * Counts The Leaf Nodes On One Thread Or Splits The Count Between Several
+     *
+     * The Hash Table Is Cleared First So Its Hit Rate Is For This Count Alone
+     *
+     * @param board The Board To Start From
+     * @param depth The Number Of Plies To Search
+     * @param settings How To Count
+     * @param hashTable The Table To Count With Or Null
+     * @return The Number Of Leaf Nodes
+     */
+    private static long count(final Board board, final int depth, final PerftSettings settings, final PerftHashTable hashTable){
+        if(hashTable != null){
+            hashTable.clear();
+        }
+        if(settings.getThreads() > 1){
+            return ParallelPerft.perft(board, depth, settings, hashTable);
+        }
+        return count(new SearchBoard(board), depth, 0, settings, hashTable);
+    }
+
+    /**
+     * Formats The Count For One Depth With Its Time And Speed
+     * @param depth The Depth Counted
+     * @param nodes The Number Of Leaf Nodes
+     * @param nanos The Time Taken In Nanoseconds
+     * @return The Line To Print
+     */
+    private static String formatResult(final int depth, final long nodes, final long nanos){
+        return "Depth " + depth + ": " + nodes + " Nodes In " + (nanos / 1000000) + "ms (" +
+                getNodesPerSecond(nodes, nanos) + " Nodes/s)";
+    }
+
+    /**
+     * Formats The Count For One Depth With Its Time, Speed And Hash Table Hit Rate
+     * @param depth The Depth Counted
+     * @param nodes The Number Of Leaf Nodes
+     * @param nanos The Time Taken In Nanoseconds
+     * @param hashTable The Table Used For The Count Or Null
+     * @return The Line To Print
+     */
+    private static String formatResult(final int depth, final long nodes, final long nanos, final PerftHashTable hashTable){
+        if(hashTable == null){
+            return formatResult(depth, nodes, nanos);
+        }
+        return formatResult(depth, nodes, nanos) + String.format(" Hash Hits %.1f%% Of %d Probes",
+                hashTable.getHitRate() * 100, hashTable.getProbes());
+    }
+
+    /**
+     * Gets The Speed Of A Count
+     * @param nodes The Number Of Nodes
+     * @param nanos The Time Taken In Nanoseconds
+     * @return The Nodes Per Second
+     */
+    private static long getNodesPerSecond(final long nodes, final long nanos){
+        return nanos == 0 ? 0 : (long) (nodes * 1e9 / nanos);
+    }
+
+    /**
+     * Prints How To Run Perft From The Command Line
+     */
+    private static void printUsage(){
+        System.out.println("Usage:");
+        System.out.println("perft <depth> [fen]         Count The Nodes To Each Depth");
+        System.out.println("divide <depth> [fen]        Count The Nodes Below Each Root Move");
+        System.out.println("suite [maxDepth] [epdFile]  Check The Counts Of An EPD Suite, The Bundled One By Default");
+        System.out.println("Options Before The Mode:");
+        System.out.println("-threads <n>                Count On n Threads, 1 By Default");
+        System.out.println("-split <n>                  Split The First n Plies Between The Threads, " + ParallelPerft.DEFAULT_SPLIT_DEPTH + " By Default");
+        System.out.println("-bulk                       Count The Last Ply From The Number Of Legal Moves Without Making Them");
+        System.out.println("-hash <mb>                  Store Counts In A Hash Table Of mb Megabytes, Also Turns On -bulk");
+    }
+
+    public static void main(String[] args) throws IOException {
+        final PerftSettings.Builder builder = new PerftSettings.Builder();
+
+        //Read The Options Before The Mode
+        int argument = 0;
+        while(argument < args.length && args[argument].startsWith("-")){
+            final String option = args[argument++].toLowerCase();
+            if(option.equals("-bulk")){
+                builder.setBulkCounting(true);
+                continue;
+            }
+            if(argument >= args.length){
+                printUsage();
+                return;
+            }
+            final int value = Integer.parseInt(args[argument++]);
+            switch(option){
+                case "-threads":
+                    builder.setThreads(value);
+                    break;
+                case "-split":
+                    builder.setSplitDepth(value);
+                    break;
+                case "-hash":
+                    builder.setHashMegabytes(value);
+                    break;
+                default:
+                    printUsage();
+                    return;
+            }
+        }
+        final PerftSettings settings = builder.build();
+        args = Arrays.copyOfRange(args, argument, args.length);
+
+        if(args.length == 0){
+            printUsage();
+            return;
+        }
+
+        switch(args[0].toLowerCase()){
+            case "perft":
+            case "divide":
+                if(args.length < 2){
+                    printUsage();
+                    return;
+                }
+                final int depth = Integer.parseInt(args[1]);
+                final String fen = args.length > 2 ? String.join(" ", Arrays.copyOfRange(args, 2, args.length)) : STARTING_FEN;
+                final Board board = FenUtilities.createGameFromFEN(fen);
+                if(args[0].equalsIgnoreCase("perft")){
+                    runPerft(board, depth, settings);
+                } else {
+                    runDivide(board, depth, settings);
+                }
+                break;
+            case "suite":
+                final int maxDepth = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+                final InputStream suite = args.length > 2 ? new FileInputStream(args[2]) : Perft.class.getResourceAsStream(DEFAULT_SUITE);
+                if(suite == null){
+                    throw new RuntimeException("The Perft Suite " + DEFAULT_SUITE + " Could Not Be Found");
+                }
+                if(!runSuite(suite, maxDepth, settings)){
+                    System.exit(1);
+                }
+                break;
+            default:
+                printUsage();
+                break;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.chess.engine.perft;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Fixed Size Table Of Perft Counts Keyed By Zobrist Key And Depth, So A Position Reached By Transposition Is Only Counted Once
+ *
+ * Each Slot Holds One Entry And A New Entry Always Replaces The Old One
+ * The Count And Depth Are Packed Into One Long And The Key Is Stored Xored With It, So A Slot Torn By Two Threads Writing
+ * At Once Fails The Key Check Instead Of Returning A Wrong Count, Letting Parallel Perft Share One Table Without Locking
+ */
+public final class PerftHashTable {
+
+    private static final int BYTES_PER_ENTRY = 16;
+    private static final int DEPTH_BITS = 8;
+    private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+
+    //Spreads The Depth Over The Key So The Same Position At Different Depths Lands In Different Slots
+    private static final long DEPTH_MIX = 0x9E3779B97F4A7C15L;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int mask;
+
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    /**
+     * Constructor For The Perft Hash Table
+     * @param megabytes The Size Of The Table, Rounded Down To A Power Of Two Number Of Entries
+     */
+    public PerftHashTable(final int megabytes){
+        if(megabytes < 1){
+            throw new RuntimeException("The Hash Table Needs At Least 1 Megabyte");
+        }
+        final int size = Integer.highestOneBit((int) Math.min((long) megabytes * 1024 * 1024 / BYTES_PER_ENTRY, 1 << 30));
+        this.keys = new long[size];
+        this.entries = new long[size];
+        this.mask = size - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    /**
+     * Looks Up The Count Stored For A Position And Depth
+     * @param zobristKey The Zobrist Key Of The Position
+     * @param depth The Depth The Count Is For, At Least 1
+     * @return The Count Or -1 If It Isn't Stored
+     */
+    public long probe(final long zobristKey, final int depth){
+        this.probes.increment();
+        final int slot = getSlot(zobristKey, depth);
+        final long entry = this.entries[slot];
+        if((this.keys[slot] ^ entry) == zobristKey && (entry & DEPTH_MASK) == depth){
+            this.hits.increment();
+            return entry >>> DEPTH_BITS;
+        }
+        return -1;
+    }
+
+    /**
+     * Stores The Count For A Position And Depth, Replacing Whatever Was In Its Slot
+     * @param zobristKey The Zobrist Key Of The Position
+     * @param depth The Depth The Count Is For, At Least 1
+     * @param count The Number Of Leaf Nodes
+     */
+    public void store(final long zobristKey, final int depth, final long count){
+        final int slot = getSlot(zobristKey, depth);
+        final long entry = (count << DEPTH_BITS) | depth;
+        this.entries[slot] = entry;
+        this.keys[slot] = zobristKey ^ entry;
+    }
+
+    /**
+     * Empties The Table And Resets Its Statistics
+     */
+    public void clear(){
+        Arrays.fill(this.keys, 0);
+        Arrays.fill(this.entries, 0);
+        this.probes.reset();
+        this.hits.reset();
+    }
+
+    /**
+     * Gets The Number Of Lookups Since The Table Was Last Cleared
+     * @return The Number Of Probes
+     */
+    public long getProbes(){
+        return this.probes.sum();
+    }
+
+    /**
+     * Gets The Number Of Lookups That Found A Count Since The Table Was Last Cleared
+     * @return The Number Of Hits
+     */
+    public long getHits(){
+        return this.hits.sum();
+    }
+
+    /**
+     * Gets The Share Of Lookups That Found A Count
+     * @return The Hit Rate Between 0 And 1
+     */
+    public double getHitRate(){
+        final long probeCount = getProbes();
+        return probeCount == 0 ? 0 : (double) getHits() / probeCount;
+    }
+
+    /**
+     * Gets The Slot A Position And Depth Are Stored In
+     * @param zobristKey The Zobrist Key Of The Position
+     * @param depth The Depth
+     * @return The Slot
+     */
+    private int getSlot(final long zobristKey, final int depth){
+        return (int) ((zobristKey ^ (depth * DEPTH_MIX)) & this.mask);
+    }
+}
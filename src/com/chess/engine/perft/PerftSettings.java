@@ -0,0 +1,131 @@
+package com.chess.engine.perft;
+
+/**
+ * How A Perft Count Is Run, Its Threads, Leaf Counting And Hash Table
+ */
+public final class PerftSettings {
+
+    private final int threads;
+    private final int splitDepth;
+    private final boolean bulkCounting;
+    private final int hashMegabytes;
+
+    /**
+     * Constructor For The Perft Settings
+     * @param builder The Builder Holding The Settings
+     */
+    private PerftSettings(final Builder builder){
+        this.threads = builder.threads;
+        this.splitDepth = builder.splitDepth;
+        this.bulkCounting = builder.bulkCounting || builder.hashMegabytes > 0;
+        this.hashMegabytes = builder.hashMegabytes;
+    }
+
+    /**
+     * Gets The Number Of Threads To Count On
+     * @return The Thread Count
+     */
+    public int getThreads(){
+        return this.threads;
+    }
+
+    /**
+     * Gets The Number Of Plies Split Between The Threads
+     * @return The Split Depth
+     */
+    public int getSplitDepth(){
+        return this.splitDepth;
+    }
+
+    /**
+     * Gets Whether The Last Ply Is Counted From The Number Of Legal Moves Instead Of Making Each One
+     * @return If Bulk Counting Is Used, Always True With A Hash Table
+     */
+    public boolean isBulkCounting(){
+        return this.bulkCounting;
+    }
+
+    /**
+     * Gets The Size Of The Hash Table
+     * @return The Size In Megabytes Or 0 For No Table
+     */
+    public int getHashMegabytes(){
+        return this.hashMegabytes;
+    }
+
+    /**
+     * Creates An Empty Hash Table Of The Configured Size
+     * @return The Hash Table Or Null If No Table Is Used
+     */
+    public PerftHashTable createHashTable(){
+        return this.hashMegabytes > 0 ? new PerftHashTable(this.hashMegabytes) : null;
+    }
+
+    /**
+     * A Nested Class Within Perft Settings, By Default Counting Every Node On One Thread
+     */
+    public static class Builder {
+
+        int threads = 1;
+        int splitDepth = ParallelPerft.DEFAULT_SPLIT_DEPTH;
+        boolean bulkCounting;
+        int hashMegabytes;
+
+        /**
+         * Sets The Number Of Threads To Count On
+         * @param threads The Thread Count, At Least 1
+         * @return The Builder
+         */
+        public Builder setThreads(final int threads){
+            if(threads < 1){
+                throw new RuntimeException("The Thread Count Must Be At Least 1");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets The Number Of Plies Split Between The Threads
+         * @param splitDepth The Split Depth, At Least 1
+         * @return The Builder
+         */
+        public Builder setSplitDepth(final int splitDepth){
+            if(splitDepth < 1){
+                throw new RuntimeException("The Split Depth Must Be At Least 1");
+            }
+            this.splitDepth = splitDepth;
+            return this;
+        }
+
+        /**
+         * Sets Whether The Last Ply Is Counted From The Number Of Legal Moves Instead Of Making Each One
+         * @param bulkCounting If Bulk Counting Is Used
+         * @return The Builder
+         */
+        public Builder setBulkCounting(final boolean bulkCounting){
+            this.bulkCounting = bulkCounting;
+            return this;
+        }
+
+        /**
+         * Sets The Size Of The Hash Table, Which Also Turns On Bulk Counting
+         * @param hashMegabytes The Size In Megabytes Or 0 For No Table
+         * @return The Builder
+         */
+        public Builder setHashMegabytes(final int hashMegabytes){
+            if(hashMegabytes < 0){
+                throw new RuntimeException("The Hash Table Size Can't Be Negative");
+            }
+            this.hashMegabytes = hashMegabytes;
+            return this;
+        }
+
+        /**
+         * Builds The Perft Settings
+         * @return The Settings
+         */
+        public PerftSettings build(){
+            return new PerftSettings(this);
+        }
+    }
+}
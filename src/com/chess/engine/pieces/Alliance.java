@@ -39,6 +39,11 @@ public enum Alliance {
         public boolean isPawnPromotionSquare(int position) {
             return BoardUtils.FIRST_ROW[position];
         }
+
+        @Override
+        public boolean isPawnStartingSquare(int position) {
+            return BoardUtils.SEVENTH_ROW[position];
+        }
     },
     BLACK {
         /**
@@ -71,6 +76,11 @@ public enum Alliance {
             return BoardUtils.EIGHT_ROW[position];
         }
 
+        @Override
+        public boolean isPawnStartingSquare(int position) {
+            return BoardUtils.SECOND_ROW[position];
+        }
+
     };
 
     /**
@@ -87,6 +97,13 @@ public enum Alliance {
 
     public abstract boolean isPawnPromotionSquare(int position);
 
+    /**
+     * Gets Whether A Tile Is On The Row That Alliances Pawns Start On And Can Jump From
+     * @param position The Coordinate Of The Tile
+     * @return If The Tile Is On The Pawn Starting Row
+     */
+    public abstract boolean isPawnStartingSquare(int position);
+
     /**
      * Gets The Opposite Direction Of That Alliance
      */
@@ -3,7 +3,8 @@ package com.chess.engine.pieces;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Tile;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveSink;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
@@ -14,8 +15,6 @@ import java.util.List;
  */
 public class King extends Piece{
 
-    private final static int[] CANDIDATE_MOVE_VECTOR_COORDINATES = {-9, -8, -7, -1, 1, 7, 8, 9};
-
     /**
      * Constructor For The King Used When First Created As isFirstMove Will Always Be True Then
      * @param piecePosition The Coordinate Of The Piece
@@ -40,13 +39,9 @@ public class King extends Piece{
      *
      * Create A List possibleMoves To Store The Possible Moves
      *
-     * For Each Candidate Vector Coordinate
-     * First It Offsets The Destination Coordinate By The Current Candidate Offset
-     * If The Candidate Destination Is A Valid Tile And Not A Column Exclusion Get The Tile
-     *
-     * If That Tile Is Not Occupied Add A New Major Move To possibleMoves
-     * Else If The Tile Is Occupied Check The Alliance Of The Piece Currently On That Tile
-     * If That Piece Is Of Opposite Alliance Add A New Attack Move To possibleMoves
+     * Looks Up The Kings Attack Bitboard For Its Tile And Removes The Tiles Holding Its Own Pieces
+     * For Each Remaining Tile If It Is Empty Add A New Major Move To possibleMoves
+     * Else Add A New Attack Move On The Opponents Piece To possibleMoves
      *
      * @param board The Board To Evaluate On
      * @return A Copy Of The List possibleMoves
@@ -56,35 +51,21 @@ public class King extends Piece{
 
         final List<Move> possibleMoves = new ArrayList<>();
 
-        int candidateDestinationCoordinate;
-
-        //Loop Through Each Vector
-        for(final int currentCandidateOffset : CANDIDATE_MOVE_VECTOR_COORDINATES){
-
-            //Offset The Destination Coordinate By The Candidate Offset
-            candidateDestinationCoordinate = this.piecePosition + currentCandidateOffset;
-
-            //If The Move Is Within Bounds
-            if(BoardUtils.isValidTile(candidateDestinationCoordinate)){
-
+        //Every Tile The King Attacks That Isn't Holding One Of Its Own Pieces
+        long candidateDestinations = BoardUtils.KING_ATTACKS[this.piecePosition] & ~board.getOccupancy(this.pieceAlliance);
 
-                if(isFirstColumnExclusion(this.piecePosition, candidateDestinationCoordinate) ||
-                        isEightColumnExclusion(this.piecePosition, candidateDestinationCoordinate)){
-                    continue;
-                }
+        while(candidateDestinations != 0){
+            final int candidateDestinationCoordinate = Long.numberOfTrailingZeros(candidateDestinations);
+            candidateDestinations &= candidateDestinations - 1;
 
-                //Get The Tile
-                final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
+            //Get The Piece On The Tile
+            final Piece pieceAtDestination = board.getPiece(candidateDestinationCoordinate);
 
-                //If The Tile Is Empty Add A New Major Move, Else Add An Attack Move If The Pieces Have Different Alliances
-                if(!candidateDestinationTile.isTileOccupied()){
-                    possibleMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                } else {
-                    final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                    if(this.pieceAlliance != pieceAtDestination.getPieceAlliance()){
-                        possibleMoves.add(new Move.AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
-                    }
-                }
+            //If The Tile Is Empty Add A New Major Move, Else It Holds An Opponents Piece So Add An Attack Move
+            if(pieceAtDestination == null){
+                possibleMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
+            } else {
+                possibleMoves.add(new Move.AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
             }
         }
 
@@ -92,43 +73,42 @@ public class King extends Piece{
     }
 
     /**
-     * Moves The Piece
-     * @param move The Move To Do
-     * @return A New King With That Moves New Location
+     * Calculates All The Possible Moves For The King Without Collecting Them, Castles Are Left Out As They Are For The Move List
+     * Generated By MoveGenerator For The Kings Tile
+     * @param board The Board To Evaluate On
+     * @param sink The Sink Receiving Each Move
      */
     @Override
-    public King movePiece(Move move) {
-        return new King(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
+    public void calculatePossibleMoves(final Board board, final MoveSink sink) {
+        MoveGenerator.generateMoves(board, this.pieceAlliance, 1L << this.piecePosition, sink);
     }
 
     /**
-     * Returns The String Format Of The King
-     * @return The Kings Piece Name
+     * Calculates Only The Captures For The King, Generated By MoveGenerator For The Kings Tile
+     * @param board The Board To Evaluate On
+     * @return A Copy Of The List Of Captures
      */
     @Override
-    public String toString(){
-        return PieceType.KING.toString();
+    public List<Move> calculateCaptures(final Board board) {
+        return generateCaptures(board);
     }
 
     /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
+     * Moves The Piece
+     * @param move The Move To Do
+     * @return The Shared King On That Moves New Location
      */
-    private static boolean isFirstColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.FIRST_COLUMN[currentPosition] && ((candidatePosition == -9) || (candidatePosition == -1) ||
-                (candidatePosition == 7));
+    @Override
+    public King movePiece(Move move) {
+        return PieceUtils.getKing(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
     }
 
     /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
+     * Returns The String Format Of The King
+     * @return The Kings Piece Name
      */
-    private static boolean isEightColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.EIGHTH_COLUMN[currentPosition] && ((candidatePosition == -7) || (candidatePosition == 1) ||
-                (candidatePosition == 9));
+    @Override
+    public String toString(){
+        return PieceType.KING.toString();
     }
 }
@@ -3,7 +3,8 @@ package com.chess.engine.pieces;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Tile;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveSink;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
@@ -14,8 +15,6 @@ import java.util.List;
  */
 public class Knight extends Piece{
 
-    final public static int[] CANDIDATE_MOVE_COORDINATES = {-17, -15, -10, -6, 6, 10, 15, 17};
-
     /**
      * Constructor For The Knight Used When First Created As isFirstMove Will Always Be True Then
      * @param piecePosition The Coordinate Of The Piece
@@ -40,12 +39,9 @@ public class Knight extends Piece{
      *
      * Create A List possibleMoves To Store The Possible Moves
      *
-     * For Each Candidate Vector Coordinate
-     * First It Offsets The Destination Coordinate By The Current Candidate Offset
-     * If The Candidate Destination Is A Valid Tile And Not A Column Exclusion Get The Tile
-     * If That Tile Is Not Occupied Add A New Major Move To possibleMoves
-     * Else If The Tile Is Occupied Check The Alliance Of The Piece Currently On That Tile
-     * If That Piece Is Of Opposite Alliance Add A New Attack Move To possibleMoves
+     * Looks Up The Knights Attack Bitboard For Its Tile And Removes The Tiles Holding Its Own Pieces
+     * For Each Remaining Tile If It Is Empty Add A New Major Move To possibleMoves
+     * Else Add A New Attack Move On The Opponents Piece To possibleMoves
      *
      * @param board The Board To Evaluate On
      * @return A Copy Of The List possibleMoves
@@ -53,39 +49,23 @@ public class Knight extends Piece{
     @Override
     public List<Move> calculatePossibleMoves(final Board board) {
 
-        int candidateDestinationCoordinate;
-
         final List<Move> possibleMoves = new ArrayList<>();
 
-        //For Each Candidate Move
-        for(final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
-
-            //Offset The Destination Coordinate By The Candidate Offset
-            candidateDestinationCoordinate = this.piecePosition + currentCandidateOffset;
-
-            //If The Move Is Within Bounds
-            if(BoardUtils.isValidTile(candidateDestinationCoordinate)){
-
-                //And The Move Is Not A Column Exclusion
-                if(isFirstColumnExclusion(this.piecePosition, currentCandidateOffset) ||
-                        isSecondColumnExclusion(this.piecePosition, currentCandidateOffset) ||
-                        isSeventhColumnExclusion(this.piecePosition, currentCandidateOffset) ||
-                        isEighthColumnExclusion(this.piecePosition, currentCandidateOffset)){
-                    continue;
-                }
-
-                //Get The Tile We Want To Move To
-                final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-
-                //If The Tile Is Empty Add A New Major Move, Else Add An Attack Move If The Pieces Have Different Alliances
-                if(!candidateDestinationTile.isTileOccupied()){
-                    possibleMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                } else {
-                    final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                    if(this.pieceAlliance != pieceAtDestination.pieceAlliance){
-                        possibleMoves.add(new Move.AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
-                    }
-                }
+        //Every Tile The Knight Attacks That Isn't Holding One Of Its Own Pieces
+        long candidateDestinations = BoardUtils.KNIGHT_ATTACKS[this.piecePosition] & ~board.getOccupancy(this.pieceAlliance);
+
+        while(candidateDestinations != 0){
+            final int candidateDestinationCoordinate = Long.numberOfTrailingZeros(candidateDestinations);
+            candidateDestinations &= candidateDestinations - 1;
+
+            //Get The Piece On The Tile We Want To Move To
+            final Piece pieceAtDestination = board.getPiece(candidateDestinationCoordinate);
+
+            //If The Tile Is Empty Add A New Major Move, Else It Holds An Opponents Piece So Add An Attack Move
+            if(pieceAtDestination == null){
+                possibleMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
+            } else {
+                possibleMoves.add(new Move.AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
             }
         }
 
@@ -93,65 +73,42 @@ public class Knight extends Piece{
     }
 
     /**
-     * Moves The Piece
-     * @param move The Move To Do
-     * @return A New Knight With That Moves New Location
+     * Calculates All The Possible Moves For The Knight Without Collecting Them
+     * Generated By MoveGenerator For The Knights Tile
+     * @param board The Board To Evaluate On
+     * @param sink The Sink Receiving Each Move
      */
     @Override
-    public Knight movePiece(Move move) {
-        return new Knight(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
+    public void calculatePossibleMoves(final Board board, final MoveSink sink) {
+        MoveGenerator.generateMoves(board, this.pieceAlliance, 1L << this.piecePosition, sink);
     }
 
     /**
-     * Returns The String Format Of The Knight
-     * @return The Knights Piece Name
+     * Calculates Only The Captures For The Knight, Generated By MoveGenerator For The Knights Tile
+     * @param board The Board To Evaluate On
+     * @return A Copy Of The List Of Captures
      */
     @Override
-    public String toString(){
-        return PieceType.KNIGHT.toString();
+    public List<Move> calculateCaptures(final Board board) {
+        return generateCaptures(board);
     }
 
     /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
-     */
-    public static boolean isFirstColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.FIRST_COLUMN[currentPosition] && ((candidatePosition == -17)  || (candidatePosition == -10) ||
-                (candidatePosition == 6) || (candidatePosition == 15));
-    }
-
-    /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
-     */
-    public static boolean isSecondColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.SECOND_COLUMN[currentPosition] && ((candidatePosition == -10) || (candidatePosition == 6));
-    }
-
-    /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
+     * Moves The Piece
+     * @param move The Move To Do
+     * @return The Shared Knight On That Moves New Location
      */
-    public static boolean isSeventhColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.SEVENTH_COLUMN[currentPosition] && ((candidatePosition == -6)  || (candidatePosition == 10));
+    @Override
+    public Knight movePiece(Move move) {
+        return PieceUtils.getKnight(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
     }
 
     /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
+     * Returns The String Format Of The Knight
+     * @return The Knights Piece Name
      */
-    public static boolean isEighthColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.EIGHTH_COLUMN[currentPosition] && ((candidatePosition == -15)  || (candidatePosition == -6) ||
-                (candidatePosition == 10) || (candidatePosition == 17));
+    @Override
+    public String toString(){
+        return PieceType.KNIGHT.toString();
     }
-
-
 }
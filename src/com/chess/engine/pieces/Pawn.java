@@ -2,9 +2,10 @@ package com.chess.engine.pieces;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
-import com.chess.engine.board.Tile;
 import com.google.common.collect.ImmutableList;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveSink;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +17,9 @@ public class Pawn extends Piece{
 
     private final static int[] CANDIDATE_MOVE_VECTOR_COORDINATES = {7, 8, 9, 16};
 
+    //The Pieces A Pawn Can Promote To, Best First
+    private final static PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
+
     /**
      * Constructor For The Pawn Used When First Created As isFirstMove Will Always Be True Then
      * @param piecePosition The Coordinate Of The Piece
@@ -63,58 +67,56 @@ public class Pawn extends Piece{
                 continue;
             }
 
-            //Get The Tile
-            final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
+            //Get The Piece On The Tile
+            final Piece pieceOnCandidate = board.getPiece(candidateDestinationCoordinate);
 
 
-            if(currentCandidateOffset == 8 && !candidateDestinationTile.isTileOccupied()){
+            if(currentCandidateOffset == 8 && pieceOnCandidate == null){
                 if(this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)){
-                     possibleMoves.add(new Move.PawnPromotionMove(new Move.PawnMove(board, this, candidateDestinationCoordinate)));
+                    addPromotions(possibleMoves, new Move.PawnMove(board, this, candidateDestinationCoordinate));
                 } else {
                     possibleMoves.add(new Move.PawnMove(board, this, candidateDestinationCoordinate));
                 }
-            } else if(currentCandidateOffset == 16 && this.isFirstMove() && !candidateDestinationTile.isTileOccupied()){
-                if(!board.getTile(this.piecePosition + (8 * this.pieceAlliance.getDirection())).isTileOccupied()){
+            } else if(currentCandidateOffset == 16 && this.pieceAlliance.isPawnStartingSquare(this.piecePosition) && pieceOnCandidate == null){
+                if(!board.isTileOccupied(this.piecePosition + (8 * this.pieceAlliance.getDirection()))){
                     possibleMoves.add(new Move.PawnJump(board, this, candidateDestinationCoordinate));
                 }
             } else if((currentCandidateOffset == 7) &&
                     !isFirstColumnExclusion(this.piecePosition, currentCandidateOffset) &&
                     !isEightColumnExclusion(this.piecePosition, currentCandidateOffset)){
-                if(candidateDestinationTile.isTileOccupied()){
-                    final Piece pieceOnCandidate = candidateDestinationTile.getPiece();
+                if(pieceOnCandidate != null){
                     if(pieceOnCandidate.getPieceAlliance() != this.pieceAlliance){
                         if(this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)){
-                            possibleMoves.add(new Move.PawnPromotionMove(new Move.PawnMove(board, this, candidateDestinationCoordinate)));
+                            addPromotions(possibleMoves, new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
                         } else {
                             possibleMoves.add(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
                         }
                     }
                 } else if(board.getEnPassantPawn() != null){
-                    if(board.getEnPassantPawn().getPiecePosition() == (this.getPiecePosition() + (this.pieceAlliance.getOppositeDirection()))){
-                        final Piece pieceOnCandidate = board.getEnPassantPawn();
-                        if(this.pieceAlliance != pieceOnCandidate.getPieceAlliance()){
-                            possibleMoves.add(new Move.PawnEnPassantMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
+                    if(candidateDestinationCoordinate == board.getEnPassantSquare()){
+                        final Piece enPassantPawn = board.getEnPassantPawn();
+                        if(this.pieceAlliance != enPassantPawn.getPieceAlliance()){
+                            possibleMoves.add(new Move.PawnEnPassantMove(board, this, candidateDestinationCoordinate, enPassantPawn));
                         }
                     }
                 }
             } else if((currentCandidateOffset == 9) &&
                     !isFirstColumnExclusion(this.piecePosition, currentCandidateOffset) &&
                     !isEightColumnExclusion(this.piecePosition, currentCandidateOffset)){
-                if(candidateDestinationTile.isTileOccupied()) {
-                    final Piece pieceOnCandidate = candidateDestinationTile.getPiece();
+                if(pieceOnCandidate != null){
                     if (pieceOnCandidate.getPieceAlliance() != this.pieceAlliance) {
                         if(this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)){
-                            possibleMoves.add(new Move.PawnPromotionMove(new Move.PawnMove(board, this, candidateDestinationCoordinate)));
+                            addPromotions(possibleMoves, new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
                         } else {
                             possibleMoves.add(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
                         }
 
                     }
                 } else if(board.getEnPassantPawn() != null){
-                    if(board.getEnPassantPawn().getPiecePosition() == (this.getPiecePosition() + this.pieceAlliance.getOppositeDirection())){
-                        final Piece pieceOnCandidate = board.getEnPassantPawn();
-                        if(this.pieceAlliance != pieceOnCandidate.getPieceAlliance()){
-                            possibleMoves.add(new Move.PawnEnPassantMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
+                    if(candidateDestinationCoordinate == board.getEnPassantSquare()){
+                        final Piece enPassantPawn = board.getEnPassantPawn();
+                        if(this.pieceAlliance != enPassantPawn.getPieceAlliance()){
+                            possibleMoves.add(new Move.PawnEnPassantMove(board, this, candidateDestinationCoordinate, enPassantPawn));
                         }
                     }
                 }
@@ -124,14 +126,46 @@ public class Pawn extends Piece{
         return ImmutableList.copyOf(possibleMoves);
     }
 
+    /**
+     * Calculates All The Possible Moves For The Pawn Without Collecting Them
+     * Generated By MoveGenerator For The Pawns Tile
+     * @param board The Board To Evaluate On
+     * @param sink The Sink Receiving Each Move
+     */
+    @Override
+    public void calculatePossibleMoves(final Board board, final MoveSink sink) {
+        MoveGenerator.generateMoves(board, this.pieceAlliance, 1L << this.piecePosition, sink);
+    }
+
+    /**
+     * Calculates Only The Captures And Promotions For The Pawn, Generated By MoveGenerator For The Pawns Tile
+     * @param board The Board To Evaluate On
+     * @return A Copy Of The List Of Captures And Promotions
+     */
+    @Override
+    public List<Move> calculateCaptures(final Board board) {
+        return generateCaptures(board);
+    }
+
+    /**
+     * Adds A Promotion To Each Of The Four Pieces For A Pawn Move Onto The Last Row
+     * @param moves The List To Add The Promotions To
+     * @param pawnMove The Pawn Move Or Pawn Attack Move Onto The Last Row
+     */
+    private static void addPromotions(final List<Move> moves, final Move pawnMove){
+        for(final PieceType promotionType : PROMOTION_TYPES){
+            moves.add(new Move.PawnPromotionMove(pawnMove, promotionType));
+        }
+    }
+
     /**
      * Moves The Piece
      * @param move The Move To Do
-     * @return A New Pawn With That Moves New Location
+     * @return The Shared Pawn On That Moves New Location
      */
     @Override
     public Pawn movePiece(Move move) {
-        return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
+        return PieceUtils.getPawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
     }
 
     /**
@@ -143,8 +177,32 @@ public class Pawn extends Piece{
         return PieceType.PAWN.toString();
     }
 
+    /**
+     * Gets The Queen This Pawn Promotes To
+     * @return A New Queen On The Pawns Tile
+     */
     public Piece getPromotionPiece() {
-        return new Queen(this.piecePosition, this.pieceAlliance, false);
+        return getPromotionPiece(PieceType.QUEEN);
+    }
+
+    /**
+     * Gets The Piece This Pawn Promotes To
+     * @param promotionType The Type Of Piece To Promote To, A Knight, Bishop, Rook Or Queen
+     * @return The Shared Piece Of That Type On The Pawns Tile
+     */
+    public Piece getPromotionPiece(final PieceType promotionType) {
+        switch(promotionType){
+            case KNIGHT:
+                return PieceUtils.getKnight(this.piecePosition, this.pieceAlliance, false);
+            case BISHOP:
+                return PieceUtils.getBishop(this.piecePosition, this.pieceAlliance, false);
+            case ROOK:
+                return PieceUtils.getRook(this.piecePosition, this.pieceAlliance, false);
+            case QUEEN:
+                return PieceUtils.getQueen(this.piecePosition, this.pieceAlliance, false);
+            default:
+                throw new RuntimeException("A Pawn Cannot Promote To " + promotionType);
+        }
     }
 
     /**
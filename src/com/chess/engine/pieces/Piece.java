@@ -2,18 +2,26 @@ package com.chess.engine.pieces;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.MoveSink;
+import com.google.common.collect.ImmutableList;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * The Piece Class Containing All The Information About The Piece
+ *
+ * Pieces Are Immutable And Shared Between Boards, Moving A Piece Hands Back The Instance Held By PieceUtils
  */
 public abstract class  Piece {
 
     protected final PieceType pieceType;
     protected final int piecePosition;
     protected final Alliance pieceAlliance;
-    protected boolean isFirstMove;
+    protected final boolean isFirstMove;
     private final int cachedHashCode;
 
     /**
@@ -91,13 +99,6 @@ public abstract class  Piece {
         return this.pieceType;
     }
 
-    /**
-     * Sets Whether the Piece Has Moves
-     */
-    public void pieceHasMoved(){
-        this.isFirstMove = false;
-    }
-
     /**
      * Gets The Position Of The Piece
      * @return The Pieces Position
@@ -113,6 +114,36 @@ public abstract class  Piece {
      */
     public abstract List<Move> calculatePossibleMoves(final Board board);
 
+    /**
+     * Calculates All The Pieces Possible Moves On The Current Board, Passing Each One To A Sink Instead Of Collecting Them
+     * @param board The Board To Evaluate On
+     * @param sink The Sink Receiving Each Pseudo Legal Move
+     */
+    public abstract void calculatePossibleMoves(final Board board, final MoveSink sink);
+
+    /**
+     * Calculates Only The Pieces Captures And Promotions On The Current Board, Without Generating Its Quiet Moves
+     * @param board The Board To Evaluate On
+     * @return List Of The Pseudo Legal Captures And Promotions
+     */
+    public abstract List<Move> calculateCaptures(final Board board);
+
+    /**
+     * Generates The Captures And Promotions Of The Piece With MoveGenerator And Turns Them Into Moves
+     * @param board The Board To Evaluate On
+     * @return A Copy Of The List Of Captures And Promotions
+     */
+    protected List<Move> generateCaptures(final Board board){
+        final MoveList captures = new MoveList();
+        MoveGenerator.generateCaptures(board, this.pieceAlliance, 1L << this.piecePosition, captures);
+
+        final List<Move> moves = new ArrayList<>(captures.size());
+        for(int i = 0; i < captures.size(); i++){
+            moves.add(MoveEncoding.toMove(board, captures.get(i)));
+        }
+        return ImmutableList.copyOf(moves);
+    }
+
     /**
      * Moves The Piece
      * @param move The Move To Do
@@ -0,0 +1,155 @@
+package com.chess.engine.pieces;
+
+import com.chess.engine.board.BoardUtils;
+
+/**
+ * A Registry Holding One Shared Instance Of Every Piece
+ *
+ * Pieces Are Immutable So Every Combination Of Type, Alliance, Tile And First Move Flag Is Created Once When The Class Loads
+ * Moving, Promoting And Setting Up Pieces Hand Out These Instances Instead Of Allocating New Ones
+ */
+public final class PieceUtils {
+
+    private static final Piece[] PIECES = initPieces();
+
+    /**
+     * The Default Constructor For Piece Utils Which Shouldn't Be Able To Be Initialised
+     */
+    private PieceUtils(){
+        throw new RuntimeException("Can't Be Instantiated");
+    }
+
+    /**
+     * Creates Every Piece, Indexed By getIndex
+     * @return The Array Of All Pieces
+     */
+    private static Piece[] initPieces(){
+        final Piece[] pieces = new Piece[BoardUtils.NUM_BITBOARDS * 2 * BoardUtils.NUM_TILES];
+        for(final Alliance alliance : Alliance.values()){
+            for(final Piece.PieceType pieceType : Piece.PieceType.values()){
+                for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+                    pieces[getIndex(pieceType, tile, alliance, false)] = createPiece(pieceType, tile, alliance, false);
+                    pieces[getIndex(pieceType, tile, alliance, true)] = createPiece(pieceType, tile, alliance, true);
+                }
+            }
+        }
+        return pieces;
+    }
+
+    /**
+     * Creates A New Piece
+     * @param pieceType The Type Of The Piece
+     * @param tileCoordinate The Tile The Piece Is On
+     * @param alliance The Alliance Of The Piece
+     * @param isFirstMove If The Piece Hasn't Moved Yet
+     * @return The New Piece
+     */
+    private static Piece createPiece(final Piece.PieceType pieceType, final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        switch(pieceType){
+            case PAWN:
+                return new Pawn(tileCoordinate, alliance, isFirstMove);
+            case KNIGHT:
+                return new Knight(tileCoordinate, alliance, isFirstMove);
+            case BISHOP:
+                return new Bishop(tileCoordinate, alliance, isFirstMove);
+            case ROOK:
+                return new Rook(tileCoordinate, alliance, isFirstMove);
+            case QUEEN:
+                return new Queen(tileCoordinate, alliance, isFirstMove);
+            case KING:
+                return new King(tileCoordinate, alliance, isFirstMove);
+            default:
+                throw new RuntimeException("Unknown Piece Type " + pieceType);
+        }
+    }
+
+    /**
+     * Gets The Index Of A Piece In The Registry
+     * @param pieceType The Type Of The Piece
+     * @param tileCoordinate The Tile The Piece Is On
+     * @param alliance The Alliance Of The Piece
+     * @param isFirstMove If The Piece Hasn't Moved Yet
+     * @return The Index
+     */
+    private static int getIndex(final Piece.PieceType pieceType, final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return ((BoardUtils.getBitboardIndex(alliance, pieceType) * 2) + (isFirstMove ? 1 : 0)) * BoardUtils.NUM_TILES + tileCoordinate;
+    }
+
+    /**
+     * Gets The Shared Instance Of A Piece
+     * @param pieceType The Type Of The Piece
+     * @param tileCoordinate The Tile The Piece Is On
+     * @param alliance The Alliance Of The Piece
+     * @param isFirstMove If The Piece Hasn't Moved Yet
+     * @return The Piece
+     */
+    public static Piece getPiece(final Piece.PieceType pieceType, final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return PIECES[getIndex(pieceType, tileCoordinate, alliance, isFirstMove)];
+    }
+
+    /**
+     * Gets The Shared Instance Of A Pawn
+     * @param tileCoordinate The Tile The Pawn Is On
+     * @param alliance The Alliance Of The Pawn
+     * @param isFirstMove If The Pawn Hasn't Moved Yet
+     * @return The Pawn
+     */
+    public static Pawn getPawn(final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return (Pawn) getPiece(Piece.PieceType.PAWN, tileCoordinate, alliance, isFirstMove);
+    }
+
+    /**
+     * Gets The Shared Instance Of A Knight
+     * @param tileCoordinate The Tile The Knight Is On
+     * @param alliance The Alliance Of The Knight
+     * @param isFirstMove If The Knight Hasn't Moved Yet
+     * @return The Knight
+     */
+    public static Knight getKnight(final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return (Knight) getPiece(Piece.PieceType.KNIGHT, tileCoordinate, alliance, isFirstMove);
+    }
+
+    /**
+     * Gets The Shared Instance Of A Bishop
+     * @param tileCoordinate The Tile The Bishop Is On
+     * @param alliance The Alliance Of The Bishop
+     * @param isFirstMove If The Bishop Hasn't Moved Yet
+     * @return The Bishop
+     */
+    public static Bishop getBishop(final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return (Bishop) getPiece(Piece.PieceType.BISHOP, tileCoordinate, alliance, isFirstMove);
+    }
+
+    /**
+     * Gets The Shared Instance Of A Rook
+     * @param tileCoordinate The Tile The Rook Is On
+     * @param alliance The Alliance Of The Rook
+     * @param isFirstMove If The Rook Hasn't Moved Yet
+     * @return The Rook
+     */
+    public static Rook getRook(final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return (Rook) getPiece(Piece.PieceType.ROOK, tileCoordinate, alliance, isFirstMove);
+    }
+
+    /**
+     * Gets The Shared Instance Of A Queen
+     * @param tileCoordinate The Tile The Queen Is On
+     * @param alliance The Alliance Of The Queen
+     * @param isFirstMove If The Queen Hasn't Moved Yet
+     * @return The Queen
+     */
+    public static Queen getQueen(final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return (Queen) getPiece(Piece.PieceType.QUEEN, tileCoordinate, alliance, isFirstMove);
+    }
+
+    /**
+     * Gets The Shared Instance Of A King
+     * @param tileCoordinate The Tile The King Is On
+     * @param alliance The Alliance Of The King
+     * @param isFirstMove If The King Hasn't Moved Yet
+     * @return The King
+     */
+    public static King getKing(final int tileCoordinate, final Alliance alliance, final boolean isFirstMove){
+        return (King) getPiece(Piece.PieceType.KING, tileCoordinate, alliance, isFirstMove);
+    }
+}
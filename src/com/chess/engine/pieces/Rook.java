@@ -1,10 +1,11 @@
 package com.chess.engine.pieces;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.MagicBitboards;
 import com.google.common.collect.ImmutableList;
-import com.chess.engine.board.BoardUtils;
-import com.chess.engine.board.Tile;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveSink;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,8 +15,6 @@ import java.util.List;
  */
 public class Rook extends Piece{
 
-    private final static int[] CANDIDATE_MOVE_VECTOR_COORDINATES = {-8, -1, 1, 8};
-
     /**
      * Constructor For The Rook Used When First Created As isFirstMove Will Always Be True Then
      * @param piecePosition The Coordinate Of The Piece
@@ -36,107 +35,81 @@ public class Rook extends Piece{
     }
 
     /**
-     * Calculates All The Possible Moves For The Bishop
+     * Calculates All The Possible Moves For The Rook
      *
      * Create A List possibleMoves To Store The Possible Moves
      *
-     * For Each Candidate Vector Coordinate
-     * Whilst The Candidate Destination Is Valid (Tile To Move To Is In The Valid Range) And Not A Column Exclusion
-     * First It Offsets The Destination Coordinate By The Current Candidate Offset
-     * If The New Candidate Destination Is Valid Get The Tile
-     * If That Tile Is Empty Add A New Major Move To possibleMoves
-     *
-     * Else If The Tile Is Occupied Check If The Piece On That Tile Is Of Opposite Alliance
-     * If Its Opposite Add A New Attack Move To possibleMoves
-     * Break The While Loop As An Occupied Tile Means There No Additional Legal Moves With That Vector
+     * Looks Up The Rooks Sliding Attacks For Its Tile And The Current Occupancy And Removes The Tiles Holding Its Own Pieces
+     * For Each Remaining Tile If It Is Empty Add A New Major Move To possibleMoves
+     * Else Add A New Attack Move On The Opponents Piece To possibleMoves
      *
      * @param board The Board To Evaluate On
      * @return A Copy Of The List possibleMoves
      */
     @Override
-    public List<Move> calculatePossibleMoves(Board board) {
+    public List<Move> calculatePossibleMoves(final Board board) {
 
         final List<Move> possibleMoves = new ArrayList<>();
 
-        //Loop Though Each Vector
-        for(final int currentCandidateOffset : CANDIDATE_MOVE_VECTOR_COORDINATES){
-
-            //Set Initial Destination To Piece Position
-            int candidateDestinationCoordinate = this.piecePosition;
-
-            //Whilst The Possible Move Is Valid
-            while(BoardUtils.isValidTile(candidateDestinationCoordinate)){
-
-                //And Not A Column Exclusion
-                if(isFirstColumnExclusion(candidateDestinationCoordinate, currentCandidateOffset) ||
-                        isEightColumnExclusion(candidateDestinationCoordinate, currentCandidateOffset)){
-                    break;
-                }
-
-                //Offset The Destination Coordinate By The Candidate Offset
-                candidateDestinationCoordinate += currentCandidateOffset;
-
-                //If Still A Valid Tile
-                if(BoardUtils.isValidTile(candidateDestinationCoordinate)){
-
-                    //Get The Tile
-                    final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-
-                    //If The Tile Is Empty Add A New Major Move, Else Add An Attack Move If The Pieces Have Different Alliances
-                    if(!candidateDestinationTile.isTileOccupied()){
-                        possibleMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-                    } else {
-                        final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                        if(this.pieceAlliance != pieceAtDestination.getPieceAlliance()){
-                            possibleMoves.add(new Move.AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
-                        }
-                        break;
-                    }
-                }
-            }
+        //Every Tile The Rook Attacks Up To The First Blocker That Isn't Holding One Of Its Own Pieces
+        long candidateDestinations = MagicBitboards.getRookAttacks(this.piecePosition, board.getOccupancy()) &
+                ~board.getOccupancy(this.pieceAlliance);
+
+        while(candidateDestinations != 0){
+            final int candidateDestinationCoordinate = Long.numberOfTrailingZeros(candidateDestinations);
+            candidateDestinations &= candidateDestinations - 1;
 
+            //Get The Piece On The Tile
+            final Piece pieceAtDestination = board.getPiece(candidateDestinationCoordinate);
+
+            //If The Tile Is Empty Add A New Major Move, Else It Holds An Opponents Piece So Add An Attack Move
+            if(pieceAtDestination == null){
+                possibleMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
+            } else {
+                possibleMoves.add(new Move.AttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
+            }
         }
 
         return ImmutableList.copyOf(possibleMoves);
     }
 
     /**
-     * Moves The Piece
-     * @param move The Move To Do
-     * @return A New Rook With That Moves New Location
+     * Calculates All The Possible Moves For The Rook Without Collecting Them
+     * Generated By MoveGenerator For The Rooks Tile
+     * @param board The Board To Evaluate On
+     * @param sink The Sink Receiving Each Move
      */
     @Override
-    public Rook movePiece(Move move) {
-        return new Rook(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
+    public void calculatePossibleMoves(final Board board, final MoveSink sink) {
+        MoveGenerator.generateMoves(board, this.pieceAlliance, 1L << this.piecePosition, sink);
     }
 
     /**
-     * Returns The String Format Of The Rook
-     * @return The Rooks Piece Name
+     * Calculates Only The Captures For The Rook, Generated By MoveGenerator For The Rooks Tile
+     * @param board The Board To Evaluate On
+     * @return A Copy Of The List Of Captures
      */
     @Override
-    public String toString(){
-        return PieceType.ROOK.toString();
+    public List<Move> calculateCaptures(final Board board) {
+        return generateCaptures(board);
     }
 
     /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
+     * Moves The Piece
+     * @param move The Move To Do
+     * @return The Shared Rook On That Moves New Location
      */
-    private static boolean isFirstColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.FIRST_COLUMN[currentPosition] && (candidatePosition == -1);
+    @Override
+    public Rook movePiece(Move move) {
+        return PieceUtils.getRook(move.getDestinationCoordinate(), move.getMovedPiece().getPieceAlliance(), false);
     }
 
     /**
-     * Checks If Making A Possible Move Would Be Illegal
-     * @param currentPosition The Current Piece Position
-     * @param candidatePosition The Move Offset
-     * @return If The Possible Move Is Illegal
+     * Returns The String Format Of The Rook
+     * @return The Rooks Piece Name
      */
-    private static boolean isEightColumnExclusion(final int currentPosition, final int candidatePosition){
-        return BoardUtils.EIGHTH_COLUMN[currentPosition] && (candidatePosition == 1);
+    @Override
+    public String toString(){
+        return PieceType.ROOK.toString();
     }
-
 }
@@ -1,12 +1,16 @@
 package com.chess.engine.player;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.GameStatus;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveIndex;
+import com.chess.engine.board.MoveList;
 import com.chess.engine.pieces.Alliance;
 import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -19,20 +23,22 @@ public abstract class Player {
 
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> possibleMoves;
-    private final boolean isInCheck;
+
+    //Worked Out On First Use And Kept, A Player Whose Moves Are Never Asked For Never Generates Them
+    //Volatile So A Player Shared Between Threads Only Ever Hands Out A Fully Built List And Index
+    private volatile Collection<Move> possibleMoves;
+    private volatile MoveIndex moveIndex;
 
     /**
      * Constructor For The Player
+     *
+     * Only The King Is Found Here, Checks, Pins And Moves Are Calculated The First Time They Are Needed
+     *
      * @param board The Current Board
-     * @param legalMoves The Legal Moves For That Player
-     * @param opponentMoves The Legal Moves For The Opponent
      */
-    public Player(final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentMoves){
+    public Player(final Board board){
         this.board = board;
         this.playerKing = establishKing();
-        this.possibleMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-        this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
     }
 
     /**
@@ -44,47 +50,70 @@ public abstract class Player {
     }
 
     /**
-     * Gets All The Legal Moves For The Player
+     * Gets All The Legal Moves For The Player, Generating Them The First Time They Are Asked For
      * @return The List Of Legal Moves For The Player
      */
     public Collection<Move> getPossibleMoves(){
-        return this.possibleMoves;
+        Collection<Move> moves = this.possibleMoves;
+        if(moves == null){
+            moves = calculateLegalMoves();
+            this.possibleMoves = moves;
+        }
+        return moves;
     }
 
     /**
-     * Calculates All The Possible Attacks On A Given Tile
+     * Gets The Legal Moves Indexed By Their Tiles And Promotion, Building The Index The First Time It Is Asked For
+     * @return The Move Index For The Player
+     */
+    public MoveIndex getMoveIndex(){
+        MoveIndex index = this.moveIndex;
+        if(index == null){
+            index = new MoveIndex(getPossibleMoves());
+            this.moveIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Calculates The Legal Moves For The Player
      *
-     * Creates A List attackMoves
-     * For Each Move In opponentMoves
-     * If That Moves Destination Coordinate Is Equal To The Piece Position Add That Move To Attack Moves
+     * The Encoded Legal Moves Are Generated From The Boards Bitboards Into A Move List, In Check Only The Evasions
+     * Then Each Is Turned Into Its Move Class
      *
-     * @param piecePosition The Tile Position To Check
-     * @param opponentMoves List Of Opponent Moves
-     * @return A Copy Of The List Of attackMoves
-     */
-    public static Collection<Move> calculateAttacksOnTile(int piecePosition, Collection<Move> opponentMoves){
-        final List<Move> attackMoves = new ArrayList<>();
-        for(final Move move : opponentMoves){
-            if(piecePosition == move.getDestinationCoordinate()){
-                attackMoves.add(move);
-            }
+     * @return A Copy Of The Legal Moves
+     */
+    private Collection<Move> calculateLegalMoves(){
+        final MoveList moveList = new MoveList();
+        MoveGenerator.generateLegalMoves(this.board, getAlliance(), moveList);
+
+        final List<Move> legalMoves = new ArrayList<>(moveList.size());
+        for(int i = 0; i < moveList.size(); i++){
+            legalMoves.add(MoveEncoding.toMove(this.board, moveList.get(i)));
         }
-        return ImmutableList.copyOf(attackMoves);
+        return ImmutableList.copyOf(legalMoves);
+    }
+
+    /**
+     * Gets Whether The Opponent Attacks A Tile
+     * @param tileCoordinate The Tile To Check
+     * @return If Any Of The Opponents Pieces Attack The Tile
+     */
+    protected boolean isTileAttacked(final int tileCoordinate){
+        return this.board.isSquareAttacked(tileCoordinate, getOpponent().getAlliance());
     }
 
     /**
      * Establishes The King
-     * For Each Piece In The Players Active Pieces
-     * If The Pieces PieceType Is King Then Return That Piece Cast To A King
+     * Looks Up The Players King Bitboard And Returns The Piece On Its Tile Cast To A King
      *
      * Throws A Runtime Exception If There Is No King Found
      * @return
      */
     private King establishKing() {
-        for(final Piece piece : getActivePieces()){
-            if(piece.getPieceType() == Piece.PieceType.KING){
-                return(King) piece;
-            }
+        final long kingBitboard = this.board.getPieceBitboard(getAlliance(), Piece.PieceType.KING);
+        if(kingBitboard != 0){
+            return (King) this.board.getPiece(Long.numberOfTrailingZeros(kingBitboard));
         }
 
         throw new RuntimeException("Should Not Reach Here! This Is Not A Valid Board!");
@@ -96,7 +125,7 @@ public abstract class Player {
      * @return If The Move Is Contained With legalMoves
      */
     public boolean isMovePossible(final Move move){
-        return this.possibleMoves.contains(move);
+        return getMoveIndex().contains(move);
     }
 
     /**
@@ -104,7 +133,7 @@ public abstract class Player {
      * @return If The Player Is In Check
      */
     public boolean isInCheck(){
-        return this.isInCheck;
+        return isTileAttacked(this.playerKing.getPiecePosition());
     }
 
     /**
@@ -112,7 +141,10 @@ public abstract class Player {
      * @return If The Player Is In Check And Cannot Escape
      */
     public boolean isInCheckMate(){
-        return this.isInCheck && !hasEscapeMoves();
+        if(isNextMoveMaker()){
+            return this.board.getGameStatus() == GameStatus.CHECKMATE;
+        }
+        return isInCheck() && !hasEscapeMoves();
     }
 
     /**
@@ -120,25 +152,28 @@ public abstract class Player {
      * @return If The Player Is Not In Check And Cannot Move
      */
     public boolean isInStalemate(){
-        return !this.isInCheck && !hasEscapeMoves();
+        if(isNextMoveMaker()){
+            return this.board.getGameStatus() == GameStatus.STALEMATE;
+        }
+        return !isInCheck() && !hasEscapeMoves();
+    }
+
+    /**
+     * Gets Whether It Is This Players Turn, When The Boards Cached Game Status Applies To Them
+     * @return If The Player Is To Move
+     */
+    private boolean isNextMoveMaker(){
+        return this.board.getNextMoveMaker() == getAlliance();
     }
 
     /**
      * Calculates Whether The Player Has Any Possible Escape Moves
      *
-     * For Each Move In legalMoves
-     * Make The Move And If The Move Status Is Done The Move Is Legal, Return True That There Is Escape Moves
-     * Else Return False If No Moves Are Possible
+     * The Possible Moves Are Already Legal So Any Move At All Is An Escape
      * @return If The Player Has Any Possible Moves
      */
     protected boolean hasEscapeMoves(){
-        for(final Move move : this.possibleMoves){
-            final MoveTransition transition = makeMove(move);
-            if(transition.getMoveStatus().isDone()){
-                return true;
-            }
-        }
-        return false;
+        return !getPossibleMoves().isEmpty();
     }
 
     /**
@@ -153,11 +188,8 @@ public abstract class Player {
      * Makes The Given Move Returning A New Move Transition With That Given Moves Status
      *
      * First If The Move Is Not Legal Return A New Move Transition With Status Illegal Move
-     *
-     * Afterwards Execute The Given Move
-     * Calculate Any King Attacks After The Move Is Made
-     * If kingAttacks Is Not Empty Return A New Move Transition With Status Leaves Player In Check
-     * Else Return A New Move Transition With Status Done
+     * The Possible Moves Only Hold Legal Moves So Any Other Move Can Be Executed Straight Away
+     * Return A New Move Transition With Status Done
      *
      * @param move The Move To Attempt
      * @return The New Move Transition
@@ -172,15 +204,6 @@ public abstract class Player {
         //Execute The Move
         final Board transitionBoard = move.execute();
 
-        //Calculate Any New kingAttacks
-        final Collection<Move> kingAttacks = Player.calculateAttacksOnTile(transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-                transitionBoard.currentPlayer().getPossibleMoves());
-
-        //If kingAttacks Is Not Empty Return A New Move Transition With Status Leaves Player In Check
-        if(!kingAttacks.isEmpty()){
-            return new MoveTransition(this.board, this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
-        }
-
         //Return A New Move Transition With Status Done
         return new MoveTransition(this.board, transitionBoard, move, MoveStatus.DONE);
     }
@@ -206,12 +229,4 @@ public abstract class Player {
      * @return The Players Opponent
      */
     public abstract Player getOpponent();
-
-    /**
-     * Calculate The Possible Castling Moves
-     * @param playerLegals The Current Players Legal Moves
-     * @param opponentLegals The Opponents Legal Moves
-     * @return A Collection Of Possible King Castling Moves
-     */
-    public abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals, Collection<Move> opponentLegals);
 }
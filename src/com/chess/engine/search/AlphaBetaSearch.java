@@ -0,0 +1,313 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Finds The Best Move With An Iteratively Deepened Negamax Alpha Beta Search
+ *
+ * Each Position Is Scored For The Player To Move, So A Childs Score Is Negated To Give Its Parents
+ * Moves Come From A MovePicker So Captures Are Tried Before Quiet Moves And Killer Moves Before The Rest Of The Quiets
+ * At The End Of The Depth A Quiescence Search Plays Out The Captures So The Score Isn't Taken In The Middle Of An Exchange
+ * The Search Deepens One Ply At A Time, Trying The Last Iterations Best Move First, Until Its Limits Stop It
+ * An Iteration Cut Short Is Thrown Away, So The Best Move Always Comes From The Last Completed Iteration
+ */
+public final class AlphaBetaSearch {
+
+    //Scores Beyond Any Evaluation, A Mate Found At A Ply Scores Less The Further Away It Is
+    public static final int MATE_SCORE = 100000;
+    public static final int INFINITE_SCORE = MATE_SCORE + 1;
+
+    //The Deepest The Search Goes Including Quiescence
+    public static final int MAX_PLY = 128;
+
+    //The Deepest Iteration, Leaving The Rest Of MAX_PLY For Quiescence
+    public static final int MAX_DEPTH = 64;
+
+    private static final int KILLERS_PER_PLY = 2;
+
+    //The Clock Is Read Once Every This Many Nodes Plus One, Reading It Every Node Would Slow The Search Down
+    private static final long TIME_CHECK_MASK = 2047;
+
+    private final BoardEvaluator evaluator;
+    private final Move[][] principalVariation;
+    private final int[] principalVariationLength;
+    private final int[][] killerMoves;
+
+    private long nodes;
+    private long nodeLimit;
+    private TimeManager timeManager;
+    private int rootHashMove;
+    private boolean stopped;
+
+    /**
+     * Constructor For The Alpha Beta Search
+     * @param evaluator The Evaluator Scoring The Positions At The End Of The Search
+     */
+    public AlphaBetaSearch(final BoardEvaluator evaluator){
+        this.evaluator = evaluator;
+        this.principalVariation = new Move[MAX_PLY + 1][MAX_PLY + 1];
+        this.principalVariationLength = new int[MAX_PLY + 1];
+        this.killerMoves = new int[MAX_PLY + 1][KILLERS_PER_PLY];
+    }
+
+    /**
+     * Searches For The Best Move To A Fixed Depth
+     * @param board The Board To Search, For The Player To Move
+     * @param depth The Depth In Plies
+     * @return The Result Of The Search
+     */
+    public SearchResult search(final Board board, final int depth){
+        return search(board, new SearchLimits.Builder().setDepth(depth).build(), null);
+    }
+
+    /**
+     * Searches For The Best Move To A Fixed Depth Or Until A Number Of Nodes Have Been Searched
+     * @param board The Board To Search, For The Player To Move
+     * @param depth The Depth In Plies
+     * @param nodeLimit The Most Nodes To Search
+     * @return The Result Of The Search
+     */
+    public SearchResult search(final Board board, final int depth, final long nodeLimit){
+        return search(board, new SearchLimits.Builder().setDepth(depth).setNodes(nodeLimit).build(), null);
+    }
+
+    /**
+     * Searches For The Best Move, Deepening One Ply At A Time Until The Limits Stop It
+     *
+     * The Search Stops Once An Iteration Reaches The Depth Limit, Proves The Shortest Mate Or Leaves Too Little Of The Soft Time Budget,
+     * Or Part Way Through An Iteration When The Node Limit Or Hard Time Budget Runs Out
+     * If Not Even The First Iteration Completed The Best Root Move Finished So Far Is Returned, Or The First Legal Move
+     *
+     * @param board The Board To Search, For The Player To Move
+     * @param limits The Limits Of The Search
+     * @param iterationListener Told The Result Of Each Completed Iteration, Or Null
+     * @return The Result Of The Last Completed Iteration, With A Null Best Move If The Player Has No Legal Moves
+     */
+    public SearchResult search(final Board board, final SearchLimits limits, final Consumer<SearchResult> iterationListener){
+        this.nodes = 0;
+        this.nodeLimit = limits.getNodes();
+        this.timeManager = new TimeManager(limits, board.getNextMoveMaker());
+        this.rootHashMove = MoveEncoding.NULL_MOVE;
+        this.stopped = false;
+        for(final int[] killers : this.killerMoves){
+            killers[0] = MoveEncoding.NULL_MOVE;
+            killers[1] = MoveEncoding.NULL_MOVE;
+        }
+
+        SearchResult bestResult = null;
+        int stableIterations = 0;
+        for(int depth = 1; depth <= limits.getDepth(); depth++){
+            final int score = negamax(board, depth, -INFINITE_SCORE, INFINITE_SCORE, 0);
+            if(this.stopped){
+                if(bestResult == null){
+                    bestResult = createResult(board, score, depth);
+                }
+                break;
+            }
+
+            final SearchResult result = createResult(board, score, depth);
+            if(result.getBestMove() == null){
+                return result;
+            }
+            final int bestMove = MoveEncoding.fromMove(result.getBestMove());
+            stableIterations = bestMove == this.rootHashMove ? stableIterations + 1 : 0;
+            this.rootHashMove = bestMove;
+            bestResult = result;
+            if(iterationListener != null){
+                iterationListener.accept(result);
+            }
+
+            //A Mate Within The Depth Searched Can't Be Beaten By Searching Deeper
+            if(result.isMateScore() && MATE_SCORE - Math.abs(score) <= depth){
+                break;
+            }
+            if(!this.timeManager.canStartIteration(stableIterations)){
+                break;
+            }
+        }
+        return bestResult;
+    }
+
+    /**
+     * Creates The Result Of An Iteration From The Principal Variation
+     * @param board The Board Searched
+     * @param score The Score Of The Iteration
+     * @param depth The Depth Of The Iteration
+     * @return The Result
+     */
+    private SearchResult createResult(final Board board, final int score, final int depth){
+        final List<Move> line = new ArrayList<>();
+        for(int i = 0; i < this.principalVariationLength[0]; i++){
+            line.add(this.principalVariation[0][i]);
+        }
+        if(line.isEmpty()){
+            //Stopped Before Any Root Move Was Finished, Or There Are No Legal Moves
+            final Move firstMove = new MovePicker(board, 0, MoveEncoding.NULL_MOVE, null).nextMove();
+            return new SearchResult(firstMove, this.stopped ? 0 : score, firstMove == null ? line : Collections.singletonList(firstMove),
+                    depth, this.nodes, this.timeManager.getElapsedTime());
+        }
+        return new SearchResult(line.get(0), score, line, depth, this.nodes, this.timeManager.getElapsedTime());
+    }
+
+    /**
+     * Gets Whether The Last Search Was Cut Short Part Way Through An Iteration By Its Node Limit Or Hard Time Budget
+     * @return If The Search Stopped Early
+     */
+    public boolean isStopped(){
+        return this.stopped;
+    }
+
+    /**
+     * Searches A Position With Alpha Beta Pruning
+     * @param board The Board To Search
+     * @param depth The Plies Left Before Quiescence Search
+     * @param alpha The Score The Player To Move Is Already Guaranteed
+     * @param beta The Score The Opponent Is Already Guaranteed, Anything At Or Above It Won't Be Allowed
+     * @param ply The Distance From The Root
+     * @return The Score Of The Position For The Player To Move
+     */
+    private int negamax(final Board board, final int depth, int alpha, final int beta, final int ply){
+        this.principalVariationLength[ply] = 0;
+        if(depth <= 0 || ply >= MAX_PLY){
+            return quiescence(board, alpha, beta, ply);
+        }
+        if(countNode()){
+            return 0;
+        }
+
+        final MovePicker movePicker = new MovePicker(board, ply, ply == 0 ? this.rootHashMove : MoveEncoding.NULL_MOVE, this.killerMoves[ply]);
+        int legalMoves = 0;
+        Move move;
+        while((move = movePicker.nextMove()) != null){
+            legalMoves++;
+            final int score = -negamax(move.execute(), depth - 1, -beta, -alpha, ply + 1);
+            if(this.stopped){
+                //The Score Of An Unfinished Move Can't Be Trusted, The Root Keeps Its Best Finished Move
+                return alpha;
+            }
+
+            if(score > alpha){
+                if(score >= beta){
+                    storeKiller(move, ply);
+                    return beta;
+                }
+                alpha = score;
+                updatePrincipalVariation(move, ply);
+            }
+        }
+
+        if(legalMoves == 0){
+            return movePicker.isInCheck() ? -MATE_SCORE + ply : 0;
+        }
+        return alpha;
+    }
+
+    /**
+     * Searches Only The Captures And Promotions Until The Position Is Quiet
+     *
+     * The Player To Move Can Stand Pat On The Evaluation Instead Of Capturing, Unless In Check Where Every Evasion Is Searched
+     *
+     * @param board The Board To Search
+     * @param alpha The Score The Player To Move Is Already Guaranteed
+     * @param beta The Score The Opponent Is Already Guaranteed
+     * @param ply The Distance From The Root
+     * @return The Score Of The Position For The Player To Move
+     */
+    private int quiescence(final Board board, int alpha, final int beta, final int ply){
+        this.principalVariationLength[ply] = 0;
+        if(countNode()){
+            return 0;
+        }
+
+        if(ply >= MAX_PLY){
+            return this.evaluator.evaluate(board);
+        }
+
+        final MovePicker movePicker = new MovePicker(board, ply, MoveEncoding.NULL_MOVE, null, true);
+        final boolean inCheck = movePicker.isInCheck();
+
+        if(!inCheck){
+            final int standPat = this.evaluator.evaluate(board);
+            if(standPat >= beta){
+                return beta;
+            }
+            if(standPat > alpha){
+                alpha = standPat;
+            }
+        }
+
+        int legalMoves = 0;
+        Move move;
+        while((move = movePicker.nextMove()) != null){
+            legalMoves++;
+            final int score = -quiescence(move.execute(), -beta, -alpha, ply + 1);
+            if(this.stopped){
+                return alpha;
+            }
+
+            if(score > alpha){
+                if(score >= beta){
+                    return beta;
+                }
+                alpha = score;
+                updatePrincipalVariation(move, ply);
+            }
+        }
+
+        if(inCheck && legalMoves == 0){
+            return -MATE_SCORE + ply;
+        }
+        return alpha;
+    }
+
+    /**
+     * Counts A Node And Checks The Node Limit, And Every Few Thousand Nodes The Hard Time Budget
+     * @return If The Search Has To Stop
+     */
+    private boolean countNode(){
+        if(++this.nodes >= this.nodeLimit ||
+                ((this.nodes & TIME_CHECK_MASK) == 0 && this.timeManager.isHardLimitReached())){
+            this.stopped = true;
+        }
+        return this.stopped;
+    }
+
+    /**
+     * Makes A Move Followed By The Best Line From The Next Ply The Best Line At This Ply
+     * @param move The New Best Move At This Ply
+     * @param ply The Distance From The Root
+     */
+    private void updatePrincipalVariation(final Move move, final int ply){
+        final Move[] line = this.principalVariation[ply];
+        final Move[] childLine = this.principalVariation[ply + 1];
+        final int childLength = this.principalVariationLength[ply + 1];
+
+        line[0] = move;
+        System.arraycopy(childLine, 0, line, 1, Math.min(childLength, line.length - 1));
+        this.principalVariationLength[ply] = Math.min(childLength + 1, line.length);
+    }
+
+    /**
+     * Remembers A Quiet Move That Caused A Cutoff So It Is Tried Early In Sibling Positions
+     * @param move The Move That Caused The Cutoff
+     * @param ply The Distance From The Root
+     */
+    private void storeKiller(final Move move, final int ply){
+        if(move.isAttack() || move instanceof Move.PawnPromotionMove){
+            return;
+        }
+        final int encodedMove = MoveEncoding.fromMove(move);
+        final int[] killers = this.killerMoves[ply];
+        if(killers[0] != encodedMove){
+            killers[1] = killers[0];
+            killers[0] = encodedMove;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+
+/**
+ * Scores A Board For The Search
+ */
+public interface BoardEvaluator {
+
+    /**
+     * Scores A Board From The Point Of View Of The Player To Move, Positive When They Are Better
+     * @param board The Board To Score
+     * @return The Score In Centipawns
+     */
+    int evaluate(Board board);
+}
@@ -0,0 +1,236 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.LegalMoveFilter;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.pieces.Piece;
+
+/**
+ * Hands Out The Legal Moves Of A Position One At A Time In The Order A Search Wants To Try Them
+ *
+ * The Hash Move Comes First And Is Found Without Generating Anything Else
+ * Then Captures And Promotions Ordered By Most Valuable Victim, Least Valuable Attacker
+ * Then The Killer Moves And Finally The Remaining Quiet Moves
+ * Each Stage Is Only Worked Out When The One Before It Runs Out, So A Cutoff On An Early Move Skips The Rest
+ * Quiet Moves Are Not Generated At All Unless The Search Gets That Far
+ * In Check Only The Evasions Are Generated And They Follow The Hash Move In One Stage
+ * For Quiescence Search The Picker Can Stop After The Captures, Though In Check It Still Hands Out Every Evasion
+ *
+ * The Moves Are Generated Encoded Into The Move List For The Pickers Ply, A Move Object Is Only Created For A Move Handed Out
+ */
+public final class MovePicker {
+
+    private enum Stage {
+        HASH_MOVE,
+        GENERATE_EVASIONS,
+        EVASIONS,
+        GENERATE_CAPTURES,
+        CAPTURES,
+        KILLERS,
+        GENERATE_QUIETS,
+        QUIETS,
+        DONE
+    }
+
+    private final Board board;
+    private final LegalMoveFilter legalMoveFilter;
+    private final MoveList moves;
+    private final int hashMove;
+    private final int[] killerMoves;
+    private final boolean capturesOnly;
+
+    private Stage stage;
+    private int moveIndex;
+    private int killerIndex;
+
+    /**
+     * Constructor For The Move Picker
+     * @param board The Board To Pick Moves On, For The Player To Move
+     * @param ply The Distance From The Root, Picking The Move List To Generate Into
+     * @param hashMove The Encoded Best Move Stored For This Position Or MoveEncoding.NULL_MOVE
+     * @param killerMoves The Encoded Quiet Moves That Caused Cutoffs At This Ply Elsewhere In The Search
+     */
+    public MovePicker(final Board board, final int ply, final int hashMove, final int[] killerMoves){
+        this(board, ply, hashMove, killerMoves, false);
+    }
+
+    /**
+     * Constructor For The Move Picker
+     * @param board The Board To Pick Moves On, For The Player To Move
+     * @param ply The Distance From The Root, Picking The Move List To Generate Into
+     * @param hashMove The Encoded Best Move Stored For This Position Or MoveEncoding.NULL_MOVE
+     * @param killerMoves The Encoded Quiet Moves That Caused Cutoffs At This Ply Elsewhere In The Search
+     * @param capturesOnly If Only The Captures And Promotions Are Wanted, Unless The Player Is In Check
+     */
+    public MovePicker(final Board board, final int ply, final int hashMove, final int[] killerMoves, final boolean capturesOnly){
+        this.board = board;
+        this.legalMoveFilter = new LegalMoveFilter(board, board.getNextMoveMaker());
+        this.moves = MoveList.forPly(ply);
+        this.hashMove = hashMove;
+        this.killerMoves = killerMoves;
+        this.capturesOnly = capturesOnly;
+        this.stage = Stage.HASH_MOVE;
+    }
+
+    /**
+     * Gets The Next Legal Move
+     * @return The Next Move To Search Or Null When There Are None Left
+     */
+    public Move nextMove(){
+        while(true){
+            switch(this.stage){
+                case HASH_MOVE:
+                    this.stage = this.legalMoveFilter.isInCheck() ? Stage.GENERATE_EVASIONS : Stage.GENERATE_CAPTURES;
+                    if(isLegal(this.hashMove)){
+                        return MoveEncoding.toMove(this.board, this.hashMove);
+                    }
+                    break;
+                case GENERATE_EVASIONS:
+                    MoveGenerator.generateEvasions(this.board, this.board.getNextMoveMaker(), this.legalMoveFilter.getCheckers(), this.moves);
+                    this.stage = Stage.EVASIONS;
+                    break;
+                case EVASIONS:
+                    while(this.moveIndex < this.moves.size()){
+                        final int evasion = this.moves.get(this.moveIndex++);
+                        if(evasion != this.hashMove && this.legalMoveFilter.isLegal(evasion)){
+                            return MoveEncoding.toMove(this.board, evasion);
+                        }
+                    }
+                    this.stage = Stage.DONE;
+                    break;
+                case GENERATE_CAPTURES:
+                    MoveGenerator.generateCaptures(this.board, this.moves);
+                    this.stage = Stage.CAPTURES;
+                    break;
+                case CAPTURES:
+                    final int capture = pickBestCapture();
+                    if(capture != MoveEncoding.NULL_MOVE){
+                        return MoveEncoding.toMove(this.board, capture);
+                    }
+                    this.stage = this.capturesOnly ? Stage.DONE : Stage.KILLERS;
+                    break;
+                case KILLERS:
+                    while(this.killerMoves != null && this.killerIndex < this.killerMoves.length){
+                        final int killer = this.killerMoves[this.killerIndex++];
+                        if(killer != this.hashMove && !isTactical(killer) && isLegal(killer)){
+                            return MoveEncoding.toMove(this.board, killer);
+                        }
+                    }
+                    this.stage = Stage.GENERATE_QUIETS;
+                    break;
+                case GENERATE_QUIETS:
+                    this.moves.clear();
+                    this.moveIndex = 0;
+                    MoveGenerator.generateQuietMoves(this.board, this.moves);
+                    this.stage = Stage.QUIETS;
+                    break;
+                case QUIETS:
+                    while(this.moveIndex < this.moves.size()){
+                        final int quiet = this.moves.get(this.moveIndex++);
+                        if(quiet != this.hashMove && !isKiller(quiet) && this.legalMoveFilter.isLegal(quiet)){
+                            return MoveEncoding.toMove(this.board, quiet);
+                        }
+                    }
+                    this.stage = Stage.DONE;
+                    break;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * Gets Whether The Player To Move Is In Check
+     * @return If The Player Is In Check
+     */
+    public boolean isInCheck(){
+        return this.legalMoveFilter.isInCheck();
+    }
+
+    /**
+     * Selects The Highest Scoring Legal Capture Left, Only Sorting As Far As The Search Gets
+     *
+     * The Chosen Capture Is Swapped To The Front Of The Captures Not Yet Tried
+     *
+     * @return The Best Encoded Capture Or MoveEncoding.NULL_MOVE When There Are None Left
+     */
+    private int pickBestCapture(){
+        while(this.moveIndex < this.moves.size()){
+            int best = this.moveIndex;
+            int bestScore = scoreCapture(this.moves.get(best));
+            for(int i = this.moveIndex + 1; i < this.moves.size(); i++){
+                final int score = scoreCapture(this.moves.get(i));
+                if(score > bestScore){
+                    best = i;
+                    bestScore = score;
+                }
+            }
+            this.moves.swap(this.moveIndex, best);
+
+            final int move = this.moves.get(this.moveIndex++);
+            if(move != this.hashMove && this.legalMoveFilter.isLegal(move)){
+                return move;
+            }
+        }
+        return MoveEncoding.NULL_MOVE;
+    }
+
+    /**
+     * Scores A Capture Or Promotion, Most Valuable Victim First Then Least Valuable Attacker
+     * @param move The Encoded Move To Score
+     * @return The Score, Higher Is Tried First
+     */
+    private int scoreCapture(final int move){
+        int score = 0;
+        if(MoveEncoding.isCapture(move)){
+            final int victimValue = MoveEncoding.getFlag(move) == MoveEncoding.EN_PASSANT ?
+                    Piece.PieceType.PAWN.getPieceValue() :
+                    this.board.getPiece(MoveEncoding.getTo(move)).getPieceType().getPieceValue();
+            score += victimValue * 10 - this.board.getPiece(MoveEncoding.getFrom(move)).getPieceType().getPieceValue() / 100;
+        }
+        if(MoveEncoding.isPromotion(move)){
+            score += MoveEncoding.getPromotionType(move).getPieceValue() * 10;
+        }
+        return score;
+    }
+
+    /**
+     * Gets Whether An Encoded Move Remembered From Elsewhere Is Legal Here
+     *
+     * Only The Move Itself Is Checked, Nothing Else Is Generated, So Stored Moves Can Be Tried Before Full Generation
+     *
+     * @param encodedMove The Encoded Move
+     * @return If The Move Can Be Made In This Position
+     */
+    private boolean isLegal(final int encodedMove){
+        return MoveGenerator.isPseudoLegal(this.board, encodedMove) && this.legalMoveFilter.isLegal(encodedMove);
+    }
+
+    /**
+     * Gets Whether An Encoded Move Is One Of The Killer Moves
+     * @param encodedMove The Encoded Move
+     * @return If The Move Is A Killer
+     */
+    private boolean isKiller(final int encodedMove){
+        if(this.killerMoves != null){
+            for(final int killer : this.killerMoves){
+                if(killer == encodedMove){
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets Whether An Encoded Move Is Tried In The Capture Stage
+     * @param encodedMove The Encoded Move
+     * @return If The Move Is A Capture Or Promotion
+     */
+    private static boolean isTactical(final int encodedMove){
+        return MoveEncoding.isCapture(encodedMove) || MoveEncoding.isPromotion(encodedMove);
+    }
+}
@@ -0,0 +1,300 @@
+package com.chess.engine.search;
+
+import com.chess.engine.pieces.Alliance;
+
+/**
+ * What Stops A Search, The Clocks And Increments Sent By The GUI Or A Fixed Move Time, Depth Or Node Count
+ *
+ * Anything Not Set Doesn't Limit The Search, So A Search With No Limits At All Runs To AlphaBetaSearch.MAX_DEPTH
+ * Whether A Depth Or infinite Was Sent Is Kept, So A Caller Can Tell go depth 64 And go infinite From A Bare go
+ */
+public final class SearchLimits {
+
+    //Marks A Time Or Count The GUI Didn't Send
+    public static final long NOT_SET = -1;
+
+    private final long whiteTime;
+    private final long blackTime;
+    private final long whiteIncrement;
+    private final long blackIncrement;
+    private final int movesToGo;
+    private final long moveTime;
+    private final int depth;
+    private final long nodes;
+    private final boolean depthSet;
+    private final boolean infinite;
+
+    /**
+     * Constructor For The Search Limits
+     * @param builder The Builder Holding The Limits
+     */
+    private SearchLimits(final Builder builder){
+        this.whiteTime = builder.whiteTime;
+        this.blackTime = builder.blackTime;
+        this.whiteIncrement = builder.whiteIncrement;
+        this.blackIncrement = builder.blackIncrement;
+        this.movesToGo = builder.movesToGo;
+        this.moveTime = builder.moveTime;
+        this.depth = builder.depth;
+        this.nodes = builder.nodes;
+        this.depthSet = builder.depthSet;
+        this.infinite = builder.infinite;
+    }
+
+    /**
+     * Reads The Limits From A UCI go Command
+     *
+     * Reads wtime, btime, winc, binc, movestogo, movetime, depth, nodes And infinite, Anything Else Such As ponder Is Skipped
+     *
+     * @param goCommand The go Command, For Example go wtime 60000 btime 60000 winc 1000 binc 1000
+     * @return The Search Limits
+     */
+    public static SearchLimits fromUCI(final String goCommand){
+        final String[] tokens = goCommand.trim().split("\\s+");
+        final Builder builder = new Builder();
+
+        for(int i = 1; i < tokens.length; i++){
+            switch(tokens[i].toLowerCase()){
+                case "wtime":
+                    builder.setWhiteTime(parseValue(tokens, ++i));
+                    break;
+                case "btime":
+                    builder.setBlackTime(parseValue(tokens, ++i));
+                    break;
+                case "winc":
+                    builder.setWhiteIncrement(parseValue(tokens, ++i));
+                    break;
+                case "binc":
+                    builder.setBlackIncrement(parseValue(tokens, ++i));
+                    break;
+                case "movestogo":
+                    builder.setMovesToGo((int) parseValue(tokens, ++i));
+                    break;
+                case "movetime":
+                    builder.setMoveTime(parseValue(tokens, ++i));
+                    break;
+                case "depth":
+                    builder.setDepth((int) parseValue(tokens, ++i));
+                    break;
+                case "nodes":
+                    builder.setNodes(parseValue(tokens, ++i));
+                    break;
+                case "infinite":
+                    builder.setInfinite(true);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads The Number Following A go Parameter
+     * @param tokens The Tokens Of The go Command
+     * @param index The Index Of The Number
+     * @return The Number
+     */
+    private static long parseValue(final String[] tokens, final int index){
+        if(index >= tokens.length){
+            throw new RuntimeException("Missing Value For UCI Go Parameter " + tokens[index - 1]);
+        }
+        try {
+            return Long.parseLong(tokens[index]);
+        } catch(final NumberFormatException e){
+            throw new RuntimeException("Invalid Value For UCI Go Parameter " + tokens[index - 1] + ": " + tokens[index]);
+        }
+    }
+
+    /**
+     * Gets The Time Left On A Players Clock
+     * @param alliance The Player
+     * @return The Time In Milliseconds Or NOT_SET
+     */
+    public long getTime(final Alliance alliance){
+        return alliance == Alliance.WHITE ? this.whiteTime : this.blackTime;
+    }
+
+    /**
+     * Gets The Time A Player Gains After Each Move
+     * @param alliance The Player
+     * @return The Increment In Milliseconds, 0 If It Wasn't Sent
+     */
+    public long getIncrement(final Alliance alliance){
+        return Math.max(0, alliance == Alliance.WHITE ? this.whiteIncrement : this.blackIncrement);
+    }
+
+    /**
+     * Gets The Number Of Moves Until The Next Time Control
+     * @return The Moves To Go Or NOT_SET For Sudden Death
+     */
+    public int getMovesToGo(){
+        return this.movesToGo;
+    }
+
+    /**
+     * Gets The Exact Time To Spend On The Move
+     * @return The Time In Milliseconds Or NOT_SET
+     */
+    public long getMoveTime(){
+        return this.moveTime;
+    }
+
+    /**
+     * Gets The Deepest Iteration To Search
+     * @return The Depth In Plies
+     */
+    public int getDepth(){
+        return this.depth;
+    }
+
+    /**
+     * Gets The Most Nodes To Search
+     * @return The Node Limit, Long.MAX_VALUE If It Wasn't Set
+     */
+    public long getNodes(){
+        return this.nodes;
+    }
+
+    /**
+     * Gets Whether The Search Should Run Until It Is Stopped, Not Limited By Anything But AlphaBetaSearch.MAX_DEPTH
+     * @return If infinite Was Sent
+     */
+    public boolean isInfinite(){
+        return this.infinite;
+    }
+
+    /**
+     * Gets Whether Any Limit Was Sent At All, Counting An Explicit Depth Or infinite Even When The Search Runs To AlphaBetaSearch.MAX_DEPTH
+     * @return If Any Limit Was Set
+     */
+    public boolean isLimited(){
+        return this.whiteTime != NOT_SET || this.blackTime != NOT_SET || this.moveTime != NOT_SET ||
+                this.depthSet || this.infinite || this.nodes != Long.MAX_VALUE;
+    }
+
+    /**
+     * A Nested Class Within Search Limits, By Default Setting No Limits
+     */
+    public static class Builder {
+
+        long whiteTime = NOT_SET;
+        long blackTime = NOT_SET;
+        long whiteIncrement = NOT_SET;
+        long blackIncrement = NOT_SET;
+        int movesToGo = (int) NOT_SET;
+        long moveTime = NOT_SET;
+        int depth = AlphaBetaSearch.MAX_DEPTH;
+        long nodes = Long.MAX_VALUE;
+        boolean depthSet;
+        boolean infinite;
+
+        /**
+         * Sets The Time Left On Whites Clock
+         * @param whiteTime The Time In Milliseconds
+         * @return The Builder
+         */
+        public Builder setWhiteTime(final long whiteTime){
+            this.whiteTime = Math.max(0, whiteTime);
+            return this;
+        }
+
+        /**
+         * Sets The Time Left On Blacks Clock
+         * @param blackTime The Time In Milliseconds
+         * @return The Builder
+         */
+        public Builder setBlackTime(final long blackTime){
+            this.blackTime = Math.max(0, blackTime);
+            return this;
+        }
+
+        /**
+         * Sets The Time White Gains After Each Move
+         * @param whiteIncrement The Increment In Milliseconds
+         * @return The Builder
+         */
+        public Builder setWhiteIncrement(final long whiteIncrement){
+            this.whiteIncrement = whiteIncrement;
+            return this;
+        }
+
+        /**
+         * Sets The Time Black Gains After Each Move
+         * @param blackIncrement The Increment In Milliseconds
+         * @return The Builder
+         */
+        public Builder setBlackIncrement(final long blackIncrement){
+            this.blackIncrement = blackIncrement;
+            return this;
+        }
+
+        /**
+         * Sets The Number Of Moves Until The Next Time Control
+         * @param movesToGo The Moves To Go, At Least 1
+         * @return The Builder
+         */
+        public Builder setMovesToGo(final int movesToGo){
+            if(movesToGo < 1){
+                throw new RuntimeException("The Moves To Go Must Be At Least 1");
+            }
+            this.movesToGo = movesToGo;
+            return this;
+        }
+
+        /**
+         * Sets The Exact Time To Spend On The Move
+         * @param moveTime The Time In Milliseconds
+         * @return The Builder
+         */
+        public Builder setMoveTime(final long moveTime){
+            this.moveTime = Math.max(0, moveTime);
+            return this;
+        }
+
+        /**
+         * Sets The Deepest Iteration To Search
+         * @param depth The Depth In Plies, Between 1 And AlphaBetaSearch.MAX_DEPTH
+         * @return The Builder
+         */
+        public Builder setDepth(final int depth){
+            if(depth < 1 || depth > AlphaBetaSearch.MAX_DEPTH){
+                throw new RuntimeException("The Search Depth Must Be Between 1 And " + AlphaBetaSearch.MAX_DEPTH);
+            }
+            this.depth = depth;
+            this.depthSet = true;
+            return this;
+        }
+
+        /**
+         * Sets The Most Nodes To Search
+         * @param nodes The Node Limit, At Least 1
+         * @return The Builder
+         */
+        public Builder setNodes(final long nodes){
+            if(nodes < 1){
+                throw new RuntimeException("The Node Limit Must Be At Least 1");
+            }
+            this.nodes = nodes;
+            return this;
+        }
+
+        /**
+         * Sets Whether The Search Should Run Until It Is Stopped
+         * @param infinite If The Search Is Infinite
+         * @return The Builder
+         */
+        public Builder setInfinite(final boolean infinite){
+            this.infinite = infinite;
+            return this;
+        }
+
+        /**
+         * Builds The Search Limits
+         * @return The Limits
+         */
+        public SearchLimits build(){
+            return new SearchLimits(this);
+        }
+    }
+}
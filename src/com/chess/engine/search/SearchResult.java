@@ -0,0 +1,150 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveEncoding;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * The Outcome Of A Search, The Best Move With Its Score And The Line Of Play Expected To Follow
+ */
+public final class SearchResult {
+
+    private final Move bestMove;
+    private final int score;
+    private final List<Move> principalVariation;
+    private final int depth;
+    private final long nodes;
+    private final long time;
+
+    /**
+     * Constructor For The Search Result
+     * @param bestMove The Best Move Found Or Null If The Player Has No Legal Moves
+     * @param score The Score Of The Best Move For The Player To Move
+     * @param principalVariation The Best Line Of Play, Starting With The Best Move
+     * @param depth The Depth That Was Searched
+     * @param nodes The Number Of Nodes Searched
+     * @param time The Time Searched In Milliseconds
+     */
+    public SearchResult(final Move bestMove, final int score, final List<Move> principalVariation, final int depth,
+                        final long nodes, final long time){
+        this.bestMove = bestMove;
+        this.score = score;
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.depth = depth;
+        this.nodes = nodes;
+        this.time = time;
+    }
+
+    /**
+     * Gets The Best Move
+     * @return The Best Move Or Null If The Player Has No Legal Moves
+     */
+    public Move getBestMove(){
+        return this.bestMove;
+    }
+
+    /**
+     * Gets The Score Of The Best Move
+     * @return The Score In Centipawns For The Player To Move, Near AlphaBetaSearch.MATE_SCORE For A Forced Mate
+     */
+    public int getScore(){
+        return this.score;
+    }
+
+    /**
+     * Gets The Best Line Of Play
+     * @return The Moves Expected To Be Played, Starting With The Best Move
+     */
+    public List<Move> getPrincipalVariation(){
+        return this.principalVariation;
+    }
+
+    /**
+     * Gets The Depth That Was Searched
+     * @return The Depth In Plies
+     */
+    public int getDepth(){
+        return this.depth;
+    }
+
+    /**
+     * Gets The Number Of Nodes Searched
+     * @return The Node Count
+     */
+    public long getNodes(){
+        return this.nodes;
+    }
+
+    /**
+     * Gets The Time Searched
+     * @return The Time In Milliseconds
+     */
+    public long getTime(){
+        return this.time;
+    }
+
+    /**
+     * Gets The Speed Of The Search
+     * @return The Nodes Searched Per Second
+     */
+    public long getNodesPerSecond(){
+        return this.time > 0 ? this.nodes * 1000 / this.time : this.nodes * 1000;
+    }
+
+    /**
+     * Gets The UCI info Line Describing The Result
+     * @return The info Line With The Depth, Score, Nodes, Time, Speed And Principal Variation
+     */
+    public String toUCIInfo(){
+        return "info depth " + this.depth + " score " + getUCIScoreString() + " nodes " + this.nodes + " time " + this.time +
+                " nps " + getNodesPerSecond() + " pv " + getPrincipalVariationString();
+    }
+
+    /**
+     * Gets Whether The Score Is A Forced Mate For Either Side
+     * @return If The Score Is A Mate Score
+     */
+    public boolean isMateScore(){
+        return Math.abs(this.score) >= AlphaBetaSearch.MATE_SCORE - AlphaBetaSearch.MAX_PLY;
+    }
+
+    /**
+     * Gets The Number Of Moves Until Mate
+     * @return The Full Moves To Mate, Negative When The Player To Move Is Being Mated
+     */
+    public int getMateInMoves(){
+        final int plies = AlphaBetaSearch.MATE_SCORE - Math.abs(this.score);
+        return this.score > 0 ? (plies + 1) / 2 : -(plies / 2);
+    }
+
+    /**
+     * Gets The Score In UCI Notation
+     * @return cp With The Score In Centipawns, Or mate With The Moves To Mate
+     */
+    public String getUCIScoreString(){
+        return isMateScore() ? "mate " + getMateInMoves() : "cp " + this.score;
+    }
+
+    /**
+     * Gets The Principal Variation In UCI Notation
+     * @return The Moves Separated By Spaces
+     */
+    public String getPrincipalVariationString(){
+        final StringBuilder builder = new StringBuilder();
+        for(final Move move : this.principalVariation){
+            if(builder.length() > 0){
+                builder.append(' ');
+            }
+            builder.append(MoveEncoding.toUCIString(MoveEncoding.fromMove(move)));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString(){
+        return "Depth " + this.depth + " Score " + (isMateScore() ? "Mate " + getMateInMoves() : this.score) +
+                " Nodes " + this.nodes + " Time " + this.time + "ms PV " + getPrincipalVariationString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece;
+
+/**
+ * Scores A Board By Material With Small Bonuses For Where The Pieces Stand
+ *
+ * Knights, Bishops And Queens Are Worth More Towards The Centre And Pawns Are Worth More The Further They Have Advanced
+ * Each Side Is Summed Straight From Its Bitboards So Nothing Is Generated Or Allocated
+ */
+public final class StandardBoardEvaluator implements BoardEvaluator {
+
+    private static final Piece.PieceType[] PIECE_TYPES = Piece.PieceType.values();
+
+    //For Each Tile How Far It Is From The Edge Of The Board, 0 On The Edge Up To 6 In The Centre
+    private static final int[] CENTRALITY = initCentrality();
+
+    //The Bonus Per Step Towards The Centre For Each Piece Type
+    private static final int[] CENTRALITY_BONUS = {2, 5, 3, 0, 1, 0};
+
+    //The Bonus For Each Row A Pawn Has Advanced
+    private static final int PAWN_ADVANCE_BONUS = 5;
+
+    @Override
+    public int evaluate(final Board board){
+        final int whiteScore = score(board, Alliance.WHITE);
+        final int blackScore = score(board, Alliance.BLACK);
+        return board.getNextMoveMaker() == Alliance.WHITE ? whiteScore - blackScore : blackScore - whiteScore;
+    }
+
+    /**
+     * Scores One Sides Pieces
+     * @param board The Board To Score
+     * @param alliance The Side To Score
+     * @return The Material And Positional Score Of That Side
+     */
+    private static int score(final Board board, final Alliance alliance){
+        int score = 0;
+        for(final Piece.PieceType pieceType : PIECE_TYPES){
+            if(pieceType == Piece.PieceType.KING){
+                continue;
+            }
+            long pieces = board.getPieceBitboard(alliance, pieceType);
+            while(pieces != 0){
+                final int tileCoordinate = Long.numberOfTrailingZeros(pieces);
+                pieces &= pieces - 1;
+
+                score += pieceType.getPieceValue() + CENTRALITY[tileCoordinate] * CENTRALITY_BONUS[pieceType.ordinal()];
+                if(pieceType == Piece.PieceType.PAWN){
+                    score += getRowsAdvanced(tileCoordinate, alliance) * PAWN_ADVANCE_BONUS;
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Gets How Many Rows A Pawn Has Moved From Its Starting Row
+     * @param tileCoordinate The Tile The Pawn Is On
+     * @param alliance The Alliance Of The Pawn
+     * @return The Rows Advanced
+     */
+    private static int getRowsAdvanced(final int tileCoordinate, final Alliance alliance){
+        final int row = tileCoordinate / BoardUtils.NUM_TILES_PER_ROW;
+        return alliance == Alliance.WHITE ? 6 - row : row - 1;
+    }
+
+    /**
+     * Works Out How Central Each Tile Is
+     * @return The Distance From The Nearest Edge In Rows Plus In Columns For Each Tile
+     */
+    private static int[] initCentrality(){
+        final int[] centrality = new int[BoardUtils.NUM_TILES];
+        for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+            final int row = i / BoardUtils.NUM_TILES_PER_ROW;
+            final int column = i % BoardUtils.NUM_TILES_PER_ROW;
+            centrality[i] = Math.min(row, 7 - row) + Math.min(column, 7 - column);
+        }
+        return centrality;
+    }
+}
@@ -0,0 +1,116 @@
+package com.chess.engine.search;
+
+import com.chess.engine.pieces.Alliance;
+
+/**
+ * Splits The Clock Into A Soft And A Hard Time Budget For One Move
+ *
+ * The Soft Budget Is Checked Between Iterations, A New Iteration Isn't Started Once Too Much Of It Has Gone
+ * And The More Iterations In A Row That Agree On The Best Move The Less Of It Is Used
+ * A Fixed Move Time Has No Soft Budget, Iterations Keep Starting Until The Hard Budget Stops The Search
+ * The Hard Budget Is Checked During The Search And Stops It Outright, It Never Comes Closer To The End Of The Clock Than MOVE_OVERHEAD
+ * Both Budgets Are Still At Least MINIMUM_BUDGET When The Clock Is Almost Gone, So There Is Always Time For The First Iteration
+ */
+public final class TimeManager {
+
+    //Time Kept Back For The GUI And The Operating System To Pass The Move On, So The Clock Never Runs Out
+    public static final long MOVE_OVERHEAD = 30;
+
+    //The Least Time Either Budget Is Given, Even On A Clock Shorter Than MOVE_OVERHEAD, So The Move Played Comes From A Completed Iteration
+    public static final long MINIMUM_BUDGET = 10;
+
+    //The Moves Left To Split The Clock Between When The GUI Doesn't Send movestogo
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+
+    //The Hard Budget Is At Most This Many Soft Budgets, And Never More Than Half The Clock
+    private static final int HARD_BUDGET_SCALE = 3;
+
+    //The Percentage Of The Soft Budget Used After 0, 1, 2, 3 And 4 Or More Iterations Agreeing On The Best Move
+    private static final int[] STABILITY_SCALE = {130, 100, 80, 65, 50};
+
+    private final long startTime;
+    private final long softBudget;
+    private final long hardBudget;
+    private final long hardDeadline;
+    private final boolean fixedMoveTime;
+
+    /**
+     * Constructor For The Time Manager, Starting The Clock
+     * @param limits The Search Limits
+     * @param alliance The Player To Move
+     */
+    public TimeManager(final SearchLimits limits, final Alliance alliance){
+        this.startTime = System.nanoTime();
+
+        final long clock = limits.getTime(alliance);
+        this.fixedMoveTime = limits.getMoveTime() != SearchLimits.NOT_SET;
+        if(this.fixedMoveTime){
+            //A Fixed Move Time Is Spent In Full
+            this.hardBudget = Math.max(MINIMUM_BUDGET, limits.getMoveTime() - MOVE_OVERHEAD);
+            this.softBudget = this.hardBudget;
+        } else if(clock != SearchLimits.NOT_SET){
+            final long available = Math.max(1, clock - MOVE_OVERHEAD);
+            final int movesToGo = limits.getMovesToGo() != SearchLimits.NOT_SET ?
+                    limits.getMovesToGo() : DEFAULT_MOVES_TO_GO;
+
+            this.softBudget = Math.max(MINIMUM_BUDGET, Math.min(available, available / movesToGo + limits.getIncrement(alliance) * 3 / 4));
+            this.hardBudget = Math.max(this.softBudget, Math.min(available, Math.min(this.softBudget * HARD_BUDGET_SCALE, available / 2)));
+        } else {
+            this.softBudget = Long.MAX_VALUE;
+            this.hardBudget = Long.MAX_VALUE;
+        }
+
+        this.hardDeadline = this.hardBudget == Long.MAX_VALUE ? Long.MAX_VALUE : this.startTime + this.hardBudget * 1000000L;
+    }
+
+    /**
+     * Gets The Time Since The Search Started
+     * @return The Elapsed Time In Milliseconds
+     */
+    public long getElapsedTime(){
+        return (System.nanoTime() - this.startTime) / 1000000L;
+    }
+
+    /**
+     * Gets The Time The Search Should Aim To Use
+     * @return The Soft Budget In Milliseconds, Long.MAX_VALUE Without A Clock
+     */
+    public long getSoftBudget(){
+        return this.softBudget;
+    }
+
+    /**
+     * Gets The Most Time The Search Can Use
+     * @return The Hard Budget In Milliseconds, Long.MAX_VALUE Without A Clock
+     */
+    public long getHardBudget(){
+        return this.hardBudget;
+    }
+
+    /**
+     * Gets Whether The Hard Budget Has Run Out, Cheap Enough To Call Every Few Thousand Nodes
+     * @return If The Search Has To Stop Now
+     */
+    public boolean isHardLimitReached(){
+        return this.hardDeadline != Long.MAX_VALUE && System.nanoTime() - this.hardDeadline >= 0;
+    }
+
+    /**
+     * Gets Whether There Is Time For Another Iteration
+     *
+     * Each Iteration Usually Takes Longer Than All The Ones Before It Together,
+     * So One Isn't Started Once Half The Soft Budget Scaled By The Best Moves Stability Has Gone
+     * With A Fixed Move Time Every Iteration Is Started And Only The Hard Budget Stops The Search
+     *
+     * @param stableIterations The Number Of Iterations In A Row That Kept The Same Best Move
+     * @return If The Next Iteration Should Be Started
+     */
+    public boolean canStartIteration(final int stableIterations){
+        if(this.fixedMoveTime || this.softBudget == Long.MAX_VALUE){
+            return true;
+        }
+        final int scale = STABILITY_SCALE[Math.min(stableIterations, STABILITY_SCALE.length - 1)];
+        final long scaledBudget = Math.min(this.hardBudget, this.softBudget * scale / 100);
+        return getElapsedTime() < scaledBudget / 2;
+    }
+}
@@ -0,0 +1,45 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Alliance;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests The Time Manager Splits Even A Nearly Empty Clock Into Budgets A Search Can Use
+ */
+public class TimeManagerTest {
+
+    @Test
+    public void tinyClockStillGetsMinimumBudgets(){
+        final SearchLimits limits = SearchLimits.fromUCI("go wtime 10 btime 10");
+        final TimeManager timeManager = new TimeManager(limits, Alliance.WHITE);
+
+        assertTrue(timeManager.getSoftBudget() >= TimeManager.MINIMUM_BUDGET);
+        assertTrue(timeManager.getHardBudget() >= timeManager.getSoftBudget());
+    }
+
+    @Test
+    public void emptyClockStillGetsMinimumBudgets(){
+        final SearchLimits limits = SearchLimits.fromUCI("go wtime 0 btime 0 movestogo 1");
+        final TimeManager timeManager = new TimeManager(limits, Alliance.BLACK);
+
+        assertTrue(timeManager.getSoftBudget() >= TimeManager.MINIMUM_BUDGET);
+        assertTrue(timeManager.getHardBudget() >= timeManager.getSoftBudget());
+    }
+
+    @Test
+    public void tinyClockCompletesTheFirstIteration(){
+        final AlphaBetaSearch search = new AlphaBetaSearch(new StandardBoardEvaluator());
+        final AtomicInteger completedIterations = new AtomicInteger();
+        final SearchResult result = search.search(Board.createStandardBoard(), SearchLimits.fromUCI("go wtime 1 btime 1"),
+                iteration -> completedIterations.incrementAndGet());
+
+        assertNotNull(result.getBestMove());
+        assertTrue(completedIterations.get() >= 1);
+    }
+}